@@ -51,6 +51,7 @@ import org.betonquest.betonquest.item.QuestItemHandler;
 import org.betonquest.betonquest.kernel.processor.CoreQuestRegistry;
 import org.betonquest.betonquest.kernel.processor.QuestProcessor;
 import org.betonquest.betonquest.kernel.processor.QuestRegistry;
+import org.betonquest.betonquest.kernel.processor.quest.ConditionCache;
 import org.betonquest.betonquest.kernel.processor.quest.VariableProcessor;
 import org.betonquest.betonquest.kernel.registry.feature.FeatureRegistries;
 import org.betonquest.betonquest.kernel.registry.quest.QuestTypeRegistries;
@@ -71,6 +72,7 @@ import org.betonquest.betonquest.notify.Notify;
 import org.betonquest.betonquest.playerhider.PlayerHider;
 import org.betonquest.betonquest.profile.UUIDProfileProvider;
 import org.betonquest.betonquest.quest.CoreQuestTypes;
+import org.betonquest.betonquest.quest.PrimaryServerThreadData;
 import org.betonquest.betonquest.schedule.LastExecutionCache;
 import org.betonquest.betonquest.versioning.Version;
 import org.betonquest.betonquest.versioning.java.JREVersionPrinter;
@@ -230,6 +232,11 @@ public class BetonQuest extends JavaPlugin implements LanguageProvider {
      */
     private QuestTypeAPI questTypeAPI;
 
+    /**
+     * The cache for the outcome of conditions.
+     */
+    private ConditionCache conditionCache;
+
     /**
      * Feature API.
      */
@@ -365,7 +372,10 @@ public class BetonQuest extends JavaPlugin implements LanguageProvider {
         lastExecutionCache = new LastExecutionCache(loggerFactory.create(LastExecutionCache.class, "Cache"), cache);
 
         questTypeRegistries = QuestTypeRegistries.create(loggerFactory, this);
-        final CoreQuestRegistry coreQuestRegistry = new CoreQuestRegistry(loggerFactory, questTypeRegistries);
+        conditionCache = new ConditionCache(profileProvider,
+                config.getBoolean("condition.cache.enabled", false), config.getLong("condition.cache.ttl", 1000));
+        final CoreQuestRegistry coreQuestRegistry = new CoreQuestRegistry(loggerFactory, questTypeRegistries,
+                new PrimaryServerThreadData(getServer(), getServer().getScheduler(), this), conditionCache);
         questTypeAPI = new QuestTypeAPI(coreQuestRegistry);
 
         playerDataStorage = new PlayerDataStorage(loggerFactory, loggerFactory.create(PlayerDataStorage.class), config, coreQuestRegistry.objectives(), profileProvider);
@@ -462,9 +472,13 @@ public class BetonQuest extends JavaPlugin implements LanguageProvider {
                     config.getString("mysql.base"),
                     config.getString("mysql.user"),
                     config.getString("mysql.pass"));
-            if (database.getConnection() != null) {
+            try {
+                database.releaseConnection(database.borrowConnection());
                 usesMySQL = true;
                 log.info("Successfully connected to MySQL database!");
+            } catch (final IllegalStateException e) {
+                log.debug("Could not connect to the MySQL database", e);
+                database.closeConnection();
             }
         }
         if (!mySQLEnabled || !usesMySQL) {
@@ -487,7 +501,8 @@ public class BetonQuest extends JavaPlugin implements LanguageProvider {
                 new CustomDropListener(loggerFactory.create(CustomDropListener.class), this, featureAPI),
                 new QuestItemHandler(config, playerDataStorage, pluginMessage, profileProvider),
                 new JoinQuitListener(loggerFactory, config, coreQuestRegistry.objectives(), playerDataStorage,
-                        pluginMessage, profileProvider, updater)
+                        pluginMessage, profileProvider, updater),
+                coreQuestRegistry.conditions().getCache()
         ).forEach(listener -> pluginManager.registerEvents(listener, this));
     }
 
@@ -597,12 +612,15 @@ public class BetonQuest extends JavaPlugin implements LanguageProvider {
         playerDataStorage.reloadProfiles(profileProvider.getOnlineProfiles(), pluginMessage);
 
         if (playerHider != null) {
-            playerHider.stop();
+            playerHider.stopForReload();
         }
         try {
             playerHider = new PlayerHider(this, questTypeAPI, profileProvider);
         } catch (final QuestException e) {
             log.error("Could not start PlayerHider! " + e.getMessage(), e);
+            if (playerHider != null) {
+                playerHider.stop();
+            }
         }
     }
 
@@ -610,6 +628,10 @@ public class BetonQuest extends JavaPlugin implements LanguageProvider {
     public void onDisable() {
         if (questRegistry != null) {
             questRegistry.eventScheduling().stopAll();
+            questRegistry.core().conditions().shutdown();
+        }
+        if (lastExecutionCache != null) {
+            lastExecutionCache.close();
         }
         // suspend all conversations
         if (profileProvider != null) {
@@ -727,6 +749,15 @@ public class BetonQuest extends JavaPlugin implements LanguageProvider {
         return questTypeAPI;
     }
 
+    /**
+     * Returns the cache for the outcome of conditions.
+     *
+     * @return the condition cache
+     */
+    public ConditionCache getConditionCache() {
+        return conditionCache;
+    }
+
     /**
      * Returns the Feature API.
      *
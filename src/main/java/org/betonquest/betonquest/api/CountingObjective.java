@@ -45,22 +45,22 @@ public abstract class CountingObjective extends Objective {
      */
     public CountingObjective(final Instruction instruction, final Variable<Number> targetAmount,
                              @Nullable final String notifyMessageName) throws QuestException {
-        this(instruction, CountingData.class, targetAmount, notifyMessageName);
+        this(instruction, CountingData::new, targetAmount, notifyMessageName);
     }
 
     /**
      * Create a counting objective.
      *
      * @param instruction       the objective instruction
-     * @param template          the class of the objective data object
+     * @param templateFactory   the factory creating the objective data objects
      * @param targetAmount      the target amount of units required for completion
      * @param notifyMessageName the message name used for notifying by default
      * @throws QuestException if the syntax is wrong or any error happens while parsing
      */
-    public CountingObjective(final Instruction instruction, final Class<? extends ObjectiveData> template,
+    public CountingObjective(final Instruction instruction, final ObjectiveDataFactory templateFactory,
                              final Variable<Number> targetAmount, @Nullable final String notifyMessageName)
             throws QuestException {
-        super(instruction, template);
+        super(instruction, templateFactory);
         final BetonQuest instance = BetonQuest.getInstance();
         final BetonQuestLoggerFactory loggerFactory = instance.getLoggerFactory();
         this.targetAmount = targetAmount;
@@ -22,7 +22,6 @@ import org.betonquest.betonquest.instruction.variable.Variable;
 import org.bukkit.Server;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,9 +61,9 @@ public abstract class Objective {
     private final BetonQuestLogger log;
 
     /**
-     * Should be set to the data class used to hold the objective specific information.
+     * Creates the data objects used to hold the objective specific information.
      */
-    private final Class<? extends ObjectiveData> template;
+    private final ObjectiveDataFactory templateFactory;
 
     /**
      * Instruction of this.
@@ -105,7 +104,7 @@ public abstract class Objective {
      * @throws QuestException if the syntax is wrong or any error happens while parsing
      */
     public Objective(final Instruction instruction) throws QuestException {
-        this(instruction, ObjectiveData.class);
+        this(instruction, ObjectiveData::new);
     }
 
     /**
@@ -113,19 +112,19 @@ public abstract class Objective {
      * <b>Do not register listeners here!</b>
      * There is a {@link #start()} method for it.
      *
-     * @param instruction Instruction object representing the objective
-     * @param template    the class of the objective data object
+     * @param instruction     Instruction object representing the objective
+     * @param templateFactory the factory creating the objective data objects
      * @throws QuestException if the syntax is wrong or any error happens while parsing
      */
-    public Objective(final Instruction instruction, final Class<? extends ObjectiveData> template) throws QuestException {
+    public Objective(final Instruction instruction, final ObjectiveDataFactory templateFactory) throws QuestException {
         this.log = BetonQuest.getInstance().getLoggerFactory().create(getClass());
-        this.template = template;
+        this.templateFactory = templateFactory;
         this.instruction = instruction;
         this.profileProvider = BetonQuest.getInstance().getProfileProvider();
         this.dataMap = new ProfileKeyMap<>(profileProvider);
         persistent = instruction.hasArgument("persistent");
-        events = instruction.getValueList("events", EventID::new);
-        conditions = instruction.getValueList("conditions", ConditionID::new);
+        events = instruction.getValueList("events", EventID::of);
+        conditions = instruction.getValueList("conditions", ConditionID::of);
         final int customNotifyInterval = instruction.getValue("notify", Argument.NUMBER, 0).getValue(null).intValue();
         notify = customNotifyInterval > 0 || instruction.hasArgument("notify");
         notifyInterval = Math.max(1, customNotifyInterval);
@@ -302,35 +301,24 @@ public abstract class Objective {
         }
     }
 
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private Optional<ObjectiveData> createObjectiveData(final Profile profile, final String instructionString) {
+        final String fullId = this.instruction.getID().getFullID();
         try {
-            return Optional.of(constructObjectiveDataUnsafe(profile, instructionString));
-        } catch (final NoSuchMethodException | InstantiationException | IllegalAccessException
-                       | InvocationTargetException exception) {
-            handleObjectiveDataConstructionError(profile, exception);
-            return Optional.empty();
-        }
-    }
-
-    private void handleObjectiveDataConstructionError(final Profile profile, final ReflectiveOperationException exception) {
-        if (exception.getCause() instanceof QuestException) {
-            log.warn(instruction.getPackage(), "Error while loading " + this.instruction.getID().getFullID() + " objective data for "
-                    + profile + ": " + exception.getCause().getMessage(), exception);
-        } else {
+            return Optional.of(templateFactory.create(instructionString, profile, fullId));
+        } catch (final QuestException exception) {
+            log.warn(instruction.getPackage(), "Error while loading " + fullId + " objective data for "
+                    + profile + ": " + exception.getMessage(), exception);
+        } catch (final RuntimeException exception) {
             log.reportException(instruction.getPackage(), exception);
         }
-    }
-
-    private ObjectiveData constructObjectiveDataUnsafe(final Profile profile, final String instructionString)
-            throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        final String fullId = this.instruction.getID().getFullID();
-        return template.getConstructor(String.class, Profile.class, String.class)
-                .newInstance(instructionString, profile, fullId);
+        return Optional.empty();
     }
 
     private void startObjectiveWithEvent(final Profile profile, final ObjectiveData data, final ObjectiveState previousState) {
         runObjectiveChangeEvent(profile, previousState, ObjectiveState.ACTIVE);
         activateObjective(profile, data);
+        BetonQuest.getInstance().getConditionCache().invalidate(profile);
     }
 
     /**
@@ -386,6 +374,7 @@ public abstract class Objective {
     private void stopObjectiveWithEvent(final Profile profile, final ObjectiveState newState) {
         runObjectiveChangeEvent(profile, ObjectiveState.ACTIVE, newState);
         deactivateObjective(profile);
+        BetonQuest.getInstance().getConditionCache().invalidate(profile);
     }
 
     private void runObjectiveChangeEvent(final Profile profile, final ObjectiveState previousState, final ObjectiveState newState) {
@@ -461,12 +450,11 @@ public abstract class Objective {
      */
     public void close() {
         stop();
-        for (final Map.Entry<Profile, ObjectiveData> entry : dataMap.entrySet()) {
-            final Profile profile = entry.getKey();
+        dataMap.forEach((profile, data) -> {
             stop(profile);
             BetonQuest.getInstance().getPlayerDataStorage().get(profile).addRawObjective(instruction.getID().getFullID(),
-                    entry.getValue().toString());
-        }
+                    data.toString());
+        });
     }
 
     /**
@@ -500,6 +488,24 @@ public abstract class Objective {
         CANCELED,
     }
 
+    /**
+     * Creates the {@link ObjectiveData} of an objective for a profile.
+     * Usually the constructor of the data class, like {@code ObjectiveData::new}.
+     */
+    @FunctionalInterface
+    public interface ObjectiveDataFactory {
+        /**
+         * Creates the data object from its instruction.
+         *
+         * @param instruction the data instruction to parse
+         * @param profile     the {@link Profile} to load the data for
+         * @param objID       ID of the objective
+         * @return the new data object
+         * @throws QuestException if the instruction could not be parsed
+         */
+        ObjectiveData create(String instruction, Profile profile, String objID) throws QuestException;
+    }
+
     /**
      * Stores the profile's data for the objective.
      */
@@ -2,16 +2,22 @@ package org.betonquest.betonquest.api.profile;
 
 import org.jetbrains.annotations.Nullable;
 
-import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
  * A map that uses a Profile as the key and a value of type V.
+ * <p>
+ * The key and entry sets are live views of the backing map. Profiles are resolved while iterating,
+ * so iterating does not copy the map.
  *
  * @param <V> the type of the value
  */
@@ -107,9 +113,7 @@ public class ProfileKeyMap<V> implements Map<Profile, V> {
 
     @Override
     public Set<Profile> keySet() {
-        return map.keySet().stream()
-                .map(provider::getProfile)
-                .collect(Collectors.toSet());
+        return new KeyView();
     }
 
     @Override
@@ -119,8 +123,144 @@ public class ProfileKeyMap<V> implements Map<Profile, V> {
 
     @Override
     public Set<Entry<Profile, V>> entrySet() {
-        return map.entrySet().stream()
-                .map(entry -> new AbstractMap.SimpleEntry<>(provider.getProfile(entry.getKey()), entry.getValue()))
-                .collect(Collectors.toSet());
+        return new EntryView();
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super Profile, ? super V> action) {
+        map.forEach((uuid, value) -> action.accept(provider.getProfile(uuid), value));
+    }
+
+    /**
+     * A live view of the keys, mapping the stored UUIDs to profiles while iterating.
+     */
+    private final class KeyView extends AbstractSet<Profile> {
+        @Override
+        public Iterator<Profile> iterator() {
+            final Iterator<UUID> iterator = map.keySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Profile next() {
+                    return provider.getProfile(iterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(@Nullable final Object key) {
+            return containsKey(key);
+        }
+
+        @Override
+        public boolean remove(@Nullable final Object key) {
+            return key instanceof final Profile profile && map.keySet().remove(profile.getProfileUUID());
+        }
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+    }
+
+    /**
+     * A live view of the entries, mapping the stored UUIDs to profiles while iterating.
+     */
+    private final class EntryView extends AbstractSet<Entry<Profile, V>> {
+        @Override
+        public Iterator<Entry<Profile, V>> iterator() {
+            final Iterator<Entry<UUID, V>> iterator = map.entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<Profile, V> next() {
+                    return new ProfileEntry(iterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+    }
+
+    /**
+     * An entry that resolves the profile of the stored UUID and reads and writes values through to the backing map.
+     */
+    private final class ProfileEntry implements Entry<Profile, V> {
+        /**
+         * The profile of the entry.
+         */
+        private final Profile profile;
+
+        /**
+         * The entry of the backing map.
+         */
+        private final Entry<UUID, V> entry;
+
+        private ProfileEntry(final Entry<UUID, V> entry) {
+            this.profile = provider.getProfile(entry.getKey());
+            this.entry = entry;
+        }
+
+        @Override
+        public Profile getKey() {
+            return profile;
+        }
+
+        @Override
+        public V getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public V setValue(final V value) {
+            return entry.setValue(value);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object obj) {
+            return obj instanceof final Entry<?, ?> other
+                    && Objects.equals(profile, other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(profile) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return profile + "=" + getValue();
+        }
     }
 }
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * The Core Quest Type logic.
@@ -57,6 +58,28 @@ public final class QuestTypeAPI {
         return questRegistry.conditions().checks(profile, conditionIDs);
     }
 
+    /**
+     * Checks if the conditions described by conditionID are met without blocking the calling thread.
+     *
+     * @param profile      the {@link Profile} of the player which should be checked
+     * @param conditionIDs IDs of the conditions to check
+     * @return a stage completing with true if all conditions are met
+     */
+    public CompletionStage<Boolean> conditionsAsync(@Nullable final Profile profile, final Collection<ConditionID> conditionIDs) {
+        return conditionsAsync(profile, conditionIDs.toArray(new ConditionID[0]));
+    }
+
+    /**
+     * Checks if the conditions described by conditionID are met without blocking the calling thread.
+     *
+     * @param profile      the {@link Profile} of the player which should be checked
+     * @param conditionIDs IDs of the conditions to check
+     * @return a stage completing with true if all conditions are met
+     */
+    public CompletionStage<Boolean> conditionsAsync(@Nullable final Profile profile, final ConditionID... conditionIDs) {
+        return questRegistry.conditions().checksAsync(profile, conditionIDs);
+    }
+
     /**
      * Checks if the condition described by conditionID is met.
      *
@@ -1,9 +1,14 @@
 package org.betonquest.betonquest.api.quest.npc.feature;
 
 import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagAddEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagRemoveEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.profile.ProfileProvider;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.api.quest.npc.Npc;
@@ -11,22 +16,41 @@ import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.id.NpcID;
 import org.betonquest.betonquest.kernel.processor.quest.NpcProcessor;
 import org.betonquest.betonquest.kernel.registry.quest.NpcTypeRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Hides (or shows) Npcs based on conditions defined in the {@code hide_npcs} section of a {@link QuestPackage}.
+ * <p>
+ * The visibility is updated for a player when its tags, points or objectives change
+ * and periodically for conditions that do not depend on player data.
  */
-public class NpcHider {
+@SuppressWarnings("PMD.CouplingBetweenObjects")
+public class NpcHider implements Listener {
+    /**
+     * Shift to get the chunk coordinate from a block coordinate.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -57,6 +81,21 @@ public class NpcHider {
      */
     private final Map<NpcID, Set<ConditionID>> npcs;
 
+    /**
+     * The last sent hidden state of each Npc by player UUID.
+     */
+    private final Map<UUID, Map<NpcID, Boolean>> hiddenStates;
+
+    /**
+     * Profiles which visibility will be updated on the next tick.
+     */
+    private final Set<OnlineProfile> pendingUpdates;
+
+    /**
+     * The range in chunks around a player in which Npcs are updated.
+     */
+    private int rangeChunks;
+
     /**
      * The task refreshing npc visibility.
      */
@@ -80,15 +119,18 @@ public class NpcHider {
         this.profileProvider = profileProvider;
         this.npcTypes = npcTypes;
         this.npcs = new HashMap<>();
+        this.hiddenStates = new HashMap<>();
+        this.pendingUpdates = new LinkedHashSet<>();
     }
 
     private void load(final Collection<QuestPackage> packages) {
         final int updateInterval = plugin.getPluginConfig().getInt("hider.npc_update_interval", 5 * 20);
+        rangeChunks = Bukkit.getViewDistance() + 1;
         loadFromConfig(packages);
         task = new BukkitRunnable() {
             @Override
             public void run() {
-                applyVisibility();
+                updateVisibility();
             }
         }.runTaskTimer(plugin, 0, updateInterval);
     }
@@ -118,7 +160,7 @@ public class NpcHider {
 
             for (final String condition : conditionsString.split(",")) {
                 try {
-                    conditions.add(new ConditionID(pack, condition));
+                    conditions.add(ConditionID.of(pack, condition));
                 } catch (final QuestException e) {
                     log.warn(pack, "Condition '" + condition + "' does not exist, in hide_npcs with ID " + idString, e);
                     continue npcs;
@@ -143,6 +185,7 @@ public class NpcHider {
             task.cancel();
         }
         npcs.clear();
+        hiddenStates.clear();
         load(packages);
     }
 
@@ -186,6 +229,10 @@ public class NpcHider {
 
     /**
      * Updates the visibility of the specified Npc for this player.
+     * <p>
+     * Show or hide is only sent if the visibility changed since it was last sent to the player.
+     * Npcs in another world or outside the view distance of the player are skipped
+     * and updated once the player comes close to them.
      *
      * @param onlineProfile the online profile of the player
      * @param npcId         the id of the Npc
@@ -198,13 +245,40 @@ public class NpcHider {
             log.warn("NPCHider could not update visibility for npc " + npcId.getFullID() + ": No npc with this id found!", exception);
             return;
         }
-        if (npc.isSpawned()) {
-            final Set<ConditionID> conditions = npcs.get(npcId);
-            if (conditions == null || conditions.isEmpty() || !plugin.getQuestTypeAPI().conditions(onlineProfile, conditions)) {
-                npc.show(onlineProfile);
-            } else {
-                npc.hide(onlineProfile);
-            }
+        final UUID playerId = onlineProfile.getPlayerUUID();
+        if (!npc.isSpawned()) {
+            forget(playerId, npcId);
+            return;
+        }
+        if (!isInRange(npc.getLocation(), onlineProfile.getPlayer().getLocation())) {
+            return;
+        }
+        final Set<ConditionID> conditions = npcs.get(npcId);
+        final boolean hidden = conditions != null && !conditions.isEmpty()
+                && plugin.getQuestTypeAPI().conditions(onlineProfile, conditions);
+        final Boolean previous = hiddenStates.computeIfAbsent(playerId, key -> new HashMap<>()).put(npcId, hidden);
+        if (previous != null && previous == hidden) {
+            return;
+        }
+        if (hidden) {
+            npc.hide(onlineProfile);
+        } else {
+            npc.show(onlineProfile);
+        }
+    }
+
+    private boolean isInRange(final Location npcLocation, final Location playerLocation) {
+        if (npcLocation.getWorld() == null || !npcLocation.getWorld().equals(playerLocation.getWorld())) {
+            return false;
+        }
+        return Math.abs((npcLocation.getBlockX() >> CHUNK_SHIFT) - (playerLocation.getBlockX() >> CHUNK_SHIFT)) <= rangeChunks
+                && Math.abs((npcLocation.getBlockZ() >> CHUNK_SHIFT) - (playerLocation.getBlockZ() >> CHUNK_SHIFT)) <= rangeChunks;
+    }
+
+    private void forget(final UUID playerId, final NpcID npcId) {
+        final Map<NpcID, Boolean> states = hiddenStates.get(playerId);
+        if (states != null) {
+            states.remove(npcId);
         }
     }
 
@@ -220,24 +294,109 @@ public class NpcHider {
     }
 
     /**
-     * Updates the visibility of this Npc for all players.
+     * Sends the visibility of this Npc to all players again.
+     * <p>
+     * Used when the Npc was changed externally, so the last sent visibility may no longer be shown.
      *
      * @param npcId the id of the Npc
      */
     public void applyVisibility(final NpcID npcId) {
         for (final OnlineProfile onlineProfile : profileProvider.getOnlineProfiles()) {
+            forget(onlineProfile.getPlayerUUID(), npcId);
             applyVisibility(onlineProfile, npcId);
         }
     }
 
     /**
-     * Updates the visibility of all Npcs for all OnlineProfiles.
+     * Sends the visibility of all Npcs to all OnlineProfiles again.
+     * <p>
+     * Used when Npcs were changed externally, so the last sent visibility may no longer be shown.
      */
     public void applyVisibility() {
+        hiddenStates.clear();
+        updateVisibility();
+    }
+
+    /**
+     * Updates the visibility of all Npcs for all OnlineProfiles, sending only changes.
+     */
+    private void updateVisibility() {
         for (final OnlineProfile onlineProfile : profileProvider.getOnlineProfiles()) {
-            for (final NpcID npcId : npcs.keySet()) {
-                applyVisibility(onlineProfile, npcId);
+            applyVisibility(onlineProfile);
+        }
+    }
+
+    /**
+     * Schedules an update for the profile on the next tick, so multiple changes at once cause only one update.
+     *
+     * @param profile the profile which data changed
+     */
+    private void scheduleUpdate(final Profile profile) {
+        profile.getOnlineProfile().ifPresent(onlineProfile -> {
+            if (pendingUpdates.isEmpty()) {
+                Bukkit.getScheduler().runTask(plugin, this::runPendingUpdates);
+            }
+            pendingUpdates.add(onlineProfile);
+        });
+    }
+
+    private void runPendingUpdates() {
+        final List<OnlineProfile> profiles = new ArrayList<>(pendingUpdates);
+        pendingUpdates.clear();
+        for (final OnlineProfile onlineProfile : profiles) {
+            if (onlineProfile.getPlayer().isOnline()) {
+                applyVisibility(onlineProfile);
             }
         }
     }
+
+    /**
+     * Updates the visibility when a tag was added.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagAdd(final PlayerTagAddEvent event) {
+        scheduleUpdate(event.getProfile());
+    }
+
+    /**
+     * Updates the visibility when a tag was removed.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagRemove(final PlayerTagRemoveEvent event) {
+        scheduleUpdate(event.getProfile());
+    }
+
+    /**
+     * Updates the visibility when points changed.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPointUpdate(final PlayerUpdatePointEvent event) {
+        scheduleUpdate(event.getProfile());
+    }
+
+    /**
+     * Updates the visibility when an objective changed its state.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onObjectiveChange(final PlayerObjectiveChangeEvent event) {
+        scheduleUpdate(event.getProfile());
+    }
+
+    /**
+     * Forgets the sent visibility of a leaving player, so it is sent again on join.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        hiddenStates.remove(event.getPlayer().getUniqueId());
+    }
 }
@@ -28,6 +28,7 @@ import org.betonquest.betonquest.data.PlayerDataStorage;
 import org.betonquest.betonquest.database.GlobalData;
 import org.betonquest.betonquest.database.PlayerData;
 import org.betonquest.betonquest.database.Saver.Record;
+import org.betonquest.betonquest.database.SaverStatistics;
 import org.betonquest.betonquest.database.UpdateType;
 import org.betonquest.betonquest.feature.journal.Journal;
 import org.betonquest.betonquest.feature.journal.Pointer;
@@ -259,6 +260,9 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                     case "v":
                         displayVersionInfo(sender, alias);
                         break;
+                    case "saver":
+                        displaySaverStatistics(sender);
+                        break;
                     case "purge":
                         purgePlayer(sender, args);
                         break;
@@ -301,7 +305,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         if (args.length == 1) {
             return Optional.of(Arrays.asList("condition", "event", "item", "give", "objective", "globaltag",
                     "globalpoint", "tag", "point", "journal", "delete", "rename", "version", "purge",
-                    "update", "reload", "backup", "debug", "download", "variable"));
+                    "update", "reload", "backup", "debug", "download", "variable", "saver"));
         }
         return switch (args[0].toLowerCase(Locale.ROOT)) {
             case "conditions",
@@ -353,6 +357,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                  "update",
                  "reload",
                  "backup",
+                 "saver",
                  "package" -> Optional.of(new ArrayList<>());
             default -> Optional.of(new ArrayList<>());
         };
@@ -839,7 +844,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         }
         final EventID eventID;
         try {
-            eventID = new EventID(null, args[2]);
+            eventID = EventID.of(null, args[2]);
         } catch (final QuestException e) {
             sendMessage(sender, "error",
                     new VariableReplacement("error", Component.text(e.getMessage())));
@@ -885,7 +890,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         }
         final ConditionID conditionID;
         try {
-            conditionID = new ConditionID(null, args[2]);
+            conditionID = ConditionID.of(null, args[2]);
         } catch (final QuestException e) {
             sendMessage(sender, "error",
                     new VariableReplacement("error", Component.text(e.getMessage())));
@@ -1449,6 +1454,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         map.put("rename", "rename <tag/point/globalpoint/objective/journal> <old> <new>");
         map.put("delete", "delete <tag/point/objective/journal> <name>");
         map.put("version", "version");
+        map.put("saver", "saver");
         map.put("purge", "purge <player>");
         map.put("debug", "debug [true/false/ingame]");
         map.put("download", "download <gitHubNamespace> <ref> <offsetPath> <sourcePath> [targetPath] [recursive] [overwrite]");
@@ -1535,6 +1541,19 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         return pluginMessage.getMessage(null, "command_version_output.copy");
     }
 
+    private void displaySaverStatistics(final CommandSender sender) throws QuestException {
+        final SaverStatistics statistics = instance.getSaver().getStatistics();
+        sender.sendMessage(pluginMessage.getMessage(null, "command_saver_output",
+                new VariableReplacement("state", pluginMessage.getMessage(null,
+                        statistics.connected() ? "command_saver_connected" : "command_saver_disconnected")),
+                new VariableReplacement("queue", Component.text(statistics.queueSize())),
+                new VariableReplacement("oldest", Component.text(statistics.oldestRecordAge())),
+                new VariableReplacement("rate", Component.text(String.format(Locale.ROOT, "%.1f", statistics.recordsPerSecond()))),
+                new VariableReplacement("saved", Component.text(statistics.savedRecords())),
+                new VariableReplacement("failed", Component.text(statistics.failedStatements())),
+                new VariableReplacement("journal", Component.text(statistics.journalSize()))));
+    }
+
     private void handleDebug(final CommandSender sender, final String... args) {
         if (args.length == 1) {
             sender.sendMessage(
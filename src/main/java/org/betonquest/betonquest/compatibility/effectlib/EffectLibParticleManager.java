@@ -132,7 +132,7 @@ public class EffectLibParticleManager {
 
                 final Variable<List<Location>> locations = load(pack, settings, key, "locations", Argument.LOCATION);
                 final Variable<List<NpcID>> npcs = load(pack, settings, key, "npcs", value -> new NpcID(pack, value));
-                final Variable<List<ConditionID>> conditions = load(pack, settings, key, "conditions", value -> new ConditionID(pack, value));
+                final Variable<List<ConditionID>> conditions = load(pack, settings, key, "conditions", value -> ConditionID.of(pack, value));
 
                 final EffectConfiguration effect = new EffectConfiguration(effectClass, locations, npcs, conditions, settings, conditionsCheckInterval);
                 final EffectLibRunnable particleRunnable = new EffectLibRunnable(loggerFactory.create(EffectLibRunnable.class),
@@ -104,7 +104,7 @@ public abstract class HologramLoop extends SectionProcessor<HologramLoop.Hologra
         final Variable<Number> maxRange = new Variable<>(variableProcessor, pack, section.getString("max_range", "0"), NumberParser.NUMBER);
 
         final List<String> lines = section.getStringList("lines");
-        final List<ConditionID> conditions = new VariableList<>(variableProcessor, pack, section.getString("conditions", ""), value -> new ConditionID(pack, value)).getValue(null);
+        final List<ConditionID> conditions = new VariableList<>(variableProcessor, pack, section.getString("conditions", ""), value -> ConditionID.of(pack, value)).getValue(null);
 
         final List<AbstractLine> cleanedLines = new ArrayList<>();
         for (final String line : lines) {
@@ -128,7 +128,8 @@ public abstract class HologramLoop extends SectionProcessor<HologramLoop.Hologra
                 conditions,
                 cleanedLines,
                 pack,
-                maxRange);
+                maxRange,
+                new HologramVisibility());
         HologramRunner.addHologram(hologramWrapper);
         return hologramWrapper;
     }
@@ -193,7 +194,7 @@ public abstract class HologramLoop extends SectionProcessor<HologramLoop.Hologra
         final ChatColor colorName = getColorCodes(validator.group(5));
         final ChatColor colorDash = getColorCodes(validator.group(6));
         final ChatColor colorScore = getColorCodes(validator.group(7));
-        return new TopLine(loggerFactory, pointName, orderType, limit, new TopLine.FormatColors(colorPlace, colorName, colorDash, colorScore));
+        return new TopLine(hologramProvider.getTopListService(), pointName, orderType, limit, new TopLine.FormatColors(colorPlace, colorName, colorDash, colorScore));
     }
 
     private ChatColor getColorCodes(@Nullable final String color) {
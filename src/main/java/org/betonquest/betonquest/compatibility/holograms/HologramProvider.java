@@ -7,11 +7,14 @@ import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.api.profile.ProfileProvider;
 import org.betonquest.betonquest.compatibility.HookException;
 import org.betonquest.betonquest.compatibility.Integrator;
+import org.betonquest.betonquest.compatibility.holograms.lines.TopListService;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -61,6 +64,12 @@ public final class HologramProvider implements Integrator {
     @Nullable
     private NpcHologramLoop npcHologramLoop;
 
+    /**
+     * The leaderboards shown in top lines.
+     */
+    @Nullable
+    private TopListService topListService;
+
     /**
      * Creates a new HologramProvider object and assigns it to singleton instance if not already.
      *
@@ -157,6 +166,23 @@ public final class HologramProvider implements Integrator {
                 plugin.getVariableProcessor(), this, plugin.getFeatureAPI(), plugin.getFeatureRegistries().npc());
         plugin.addProcessor(npcHologramLoop);
         Bukkit.getPluginManager().registerEvents(new HologramListener(plugin.getProfileProvider()), plugin);
+        final TopListService service = new TopListService(loggerFactory.create(TopListService.class), plugin);
+        service.start(plugin.getPluginConfig().getLong("hologram.top_refresh_interval", 1200));
+        Bukkit.getPluginManager().registerEvents(service, plugin);
+        this.topListService = service;
+    }
+
+    /**
+     * Gets the service providing the leaderboards of top lines.
+     *
+     * @return the top list service
+     * @throws IllegalStateException if the provider is not hooked
+     */
+    public TopListService getTopListService() {
+        if (topListService == null) {
+            throw new IllegalStateException("Hologram provider is not hooked");
+        }
+        return topListService;
     }
 
     @Override
@@ -167,6 +193,11 @@ public final class HologramProvider implements Integrator {
     @Override
     public void close() {
         HologramRunner.cancel();
+        if (topListService != null) {
+            topListService.stop();
+            HandlerList.unregisterAll(topListService);
+            topListService = null;
+        }
         if (locationHologramLoop != null) {
             locationHologramLoop.clear();
             locationHologramLoop = null;
@@ -204,5 +235,15 @@ public final class HologramProvider implements Integrator {
         public void onPlayerJoin(final PlayerJoinEvent event) {
             HologramRunner.refresh(profileProvider.getProfile(event.getPlayer()));
         }
+
+        /**
+         * Called when a player leaves the server.
+         *
+         * @param event The event.
+         */
+        @EventHandler
+        public void onPlayerQuit(final PlayerQuitEvent event) {
+            HologramRunner.forget(event.getPlayer().getUniqueId());
+        }
     }
 }
@@ -2,16 +2,23 @@ package org.betonquest.betonquest.compatibility.holograms;
 
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Groups all holograms with same update interval and updates them with a single {@link BukkitRunnable}.
+ * <p>
+ * An update cycle stops when it exceeds the configured time budget and continues with the remaining holograms
+ * in the next tick, so large amounts of holograms are spread over multiple ticks.
  */
 public final class HologramRunner {
     /**
@@ -29,22 +36,54 @@ public final class HologramRunner {
      */
     private final BukkitTask task;
 
+    /**
+     * Time in nanoseconds an update cycle may take per tick, or zero for no limit.
+     */
+    private final long tickBudget;
+
+    /**
+     * Index of the next hologram to update in the current cycle.
+     */
+    private int cursor;
+
+    /**
+     * The task continuing the current cycle in the next tick, if it exceeded the time budget.
+     */
+    @Nullable
+    private BukkitTask continuation;
+
     /**
      * Creates a new instance of the HologramRunner with the specified interval.
      *
      * @param interval Interval in ticks
      */
     private HologramRunner(final int interval) {
+        final BetonQuest plugin = BetonQuest.getInstance();
+        this.tickBudget = TimeUnit.MILLISECONDS.toNanos(plugin.getPluginConfig().getLong("hologram.tick_budget", 5));
         final BukkitRunnable runnable = new BukkitRunnable() {
             @Override
             public void run() {
-                for (final HologramWrapper h : holograms) {
-                    h.updateContent();
-                    h.updateVisibility();
+                if (continuation == null) {
+                    cursor = 0;
+                    updateHolograms();
                 }
             }
         };
-        task = runnable.runTaskTimer(BetonQuest.getInstance(), 1, interval);
+        task = runnable.runTaskTimer(plugin, 1, interval);
+    }
+
+    private void updateHolograms() {
+        continuation = null;
+        final long deadline = System.nanoTime() + tickBudget;
+        while (cursor < holograms.size()) {
+            final HologramWrapper hologram = holograms.get(cursor++);
+            hologram.updateContent();
+            hologram.updateVisibility();
+            if (tickBudget > 0 && cursor < holograms.size() && System.nanoTime() > deadline) {
+                continuation = Bukkit.getScheduler().runTask(BetonQuest.getInstance(), this::updateHolograms);
+                return;
+            }
+        }
     }
 
     /**
@@ -73,6 +112,19 @@ public final class HologramRunner {
         }
     }
 
+    /**
+     * Forgets the visibility sent to a player in all HologramRunners.
+     *
+     * @param player The UUID of the player.
+     */
+    public static void forget(final UUID player) {
+        for (final HologramRunner hologramRunner : RUNNERS.values()) {
+            for (final HologramWrapper wrapper : hologramRunner.holograms) {
+                wrapper.forget(player);
+            }
+        }
+    }
+
     /**
      * Cancels hologram updating loop and removes all BetonQuest-registered holograms.
      */
@@ -98,13 +150,19 @@ public final class HologramRunner {
      * @param profile The online player's profile.
      */
     private void refreshRunner(final OnlineProfile profile) {
+        final UUID player = profile.getPlayer().getUniqueId();
         for (final HologramWrapper wrapper : holograms) {
+            wrapper.forget(player);
             wrapper.updateVisibilityForPlayer(profile);
         }
     }
 
     private void cancelRunner() {
         task.cancel();
+        if (continuation != null) {
+            continuation.cancel();
+            continuation = null;
+        }
         for (final HologramWrapper hologramWrapper : holograms) {
             for (final BetonHologram betonHologram : hologramWrapper.holograms()) {
                 betonHologram.hideAll();
@@ -0,0 +1,80 @@
+package org.betonquest.betonquest.compatibility.holograms;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers the last visibility sent to each player for the holograms of a {@link HologramWrapper},
+ * so show and hide are only sent when the visibility of a hologram changes for a player.
+ */
+public final class HologramVisibility {
+    /**
+     * The last sent visibility by hologram and player UUID.
+     */
+    private final Map<BetonHologram, Map<UUID, Boolean>> states;
+
+    /**
+     * Whether the holograms are currently shown to all players without per player visibility.
+     */
+    private boolean shownToAll;
+
+    /**
+     * Creates a new visibility state without any known visibility.
+     */
+    public HologramVisibility() {
+        this.states = new IdentityHashMap<>();
+    }
+
+    /**
+     * Switches to showing the holograms to all players.
+     *
+     * @return true if the holograms were not shown to all players before
+     */
+    public boolean showAll() {
+        if (shownToAll) {
+            return false;
+        }
+        shownToAll = true;
+        states.clear();
+        return true;
+    }
+
+    /**
+     * Records the visibility of a hologram for a player.
+     *
+     * @param hologram the hologram
+     * @param player   the UUID of the player
+     * @param visible  whether the hologram should be visible to the player
+     * @return true if the visibility changed or was not known and has to be sent to the player
+     */
+    public boolean change(final BetonHologram hologram, final UUID player, final boolean visible) {
+        shownToAll = false;
+        final Boolean previous = states.computeIfAbsent(hologram, key -> new HashMap<>()).put(player, visible);
+        return previous == null || previous != visible;
+    }
+
+    /**
+     * Forgets the visibility of all holograms for a player, so it is sent again on the next update.
+     *
+     * @param player the UUID of the player
+     */
+    public void forget(final UUID player) {
+        for (final Map<UUID, Boolean> players : states.values()) {
+            players.remove(player);
+        }
+    }
+
+    /**
+     * Forgets the visibility of holograms that are no longer part of the wrapper.
+     *
+     * @param holograms the current holograms
+     */
+    public void retain(final Collection<BetonHologram> holograms) {
+        if (states.size() > holograms.size()) {
+            states.keySet().retainAll(holograms);
+        }
+    }
+}
@@ -10,9 +10,11 @@ import org.betonquest.betonquest.compatibility.holograms.lines.AbstractLine;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.instruction.variable.Variable;
 import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Wrapper class for {@link BetonHologram} that stores data parsed from hologram configuration.
@@ -35,23 +37,32 @@ import java.util.List;
  *                      revalidating content and dealing with potential errors.
  * @param questPackage  {@link QuestPackage} in which the hologram is specified in.
  * @param varMaxRange   The maximum range in which the hologram is visible.
+ * @param visibility    The last visibility sent to each player, to only send changes.
  */
 public record HologramWrapper(BetonQuestLogger log, int interval, List<BetonHologram> holograms, boolean staticContent,
                               List<ConditionID> conditionList,
                               List<AbstractLine> cleanedLines, QuestPackage questPackage,
-                              Variable<Number> varMaxRange) {
+                              Variable<Number> varMaxRange, HologramVisibility visibility) {
+    /**
+     * Amount of bits to shift a block coordinate to get the chunk coordinate.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
     /**
      * Checks whether all conditions are met by a players and displays or hides the hologram.
      */
     public void updateVisibility() {
         final int maxRange = getMaxRangeFromVariable(null);
         if (conditionList.isEmpty() && maxRange <= 0) {
-            for (final BetonHologram hologram : holograms) {
-                hologram.showAll();
+            if (visibility.showAll()) {
+                for (final BetonHologram hologram : holograms) {
+                    hologram.showAll();
+                }
             }
             return;
         }
 
+        visibility.retain(holograms);
         for (final OnlineProfile onlineProfile : BetonQuest.getInstance().getProfileProvider().getOnlineProfiles()) {
             updateVisibilityForPlayer(onlineProfile);
         }
@@ -59,23 +70,45 @@ public record HologramWrapper(BetonQuestLogger log, int interval, List<BetonHolo
 
     /**
      * Update the visibility for a particular player.
+     * <p>
+     * The conditions are only checked if at least one hologram is in range,
+     * and show or hide is only sent if the visibility changed since the last update.
      *
      * @param profile The online player's profile.
      */
     public void updateVisibilityForPlayer(final OnlineProfile profile) {
-        final boolean conditionsMet = BetonQuest.getInstance().getQuestTypeAPI().conditions(profile, conditionList);
+        final Player player = profile.getPlayer();
+        final Location playerLocation = player.getLocation();
+        final int maxRange = getMaxRangeFromVariable(profile);
+        Boolean conditionsMet = null;
 
         for (final BetonHologram hologram : holograms) {
-            final boolean playerOutOfRange = isPlayerOutOfRange(profile, hologram);
-
-            if (conditionsMet && !playerOutOfRange) {
-                hologram.show(profile.getPlayer());
-            } else {
-                hologram.hide(profile.getPlayer());
+            boolean visible = !isOutOfRange(playerLocation, hologram.getLocation(), maxRange);
+            if (visible) {
+                if (conditionsMet == null) {
+                    conditionsMet = BetonQuest.getInstance().getQuestTypeAPI().conditions(profile, conditionList);
+                }
+                visible = conditionsMet;
+            }
+            if (visibility.change(hologram, player.getUniqueId(), visible)) {
+                if (visible) {
+                    hologram.show(player);
+                } else {
+                    hologram.hide(player);
+                }
             }
         }
     }
 
+    /**
+     * Forgets the visibility sent to a player, so it is sent again on the next update.
+     *
+     * @param player the UUID of the player
+     */
+    public void forget(final UUID player) {
+        visibility.forget(player);
+    }
+
     /**
      * Checks if the player is out of range from the specified hologram.
      *
@@ -84,20 +117,23 @@ public record HologramWrapper(BetonQuestLogger log, int interval, List<BetonHolo
      * @return {@code true} if the player is out of range, {@code false} otherwise.
      */
     public boolean isPlayerOutOfRange(final OnlineProfile profile, final BetonHologram hologram) {
-        final int maxRange = getMaxRangeFromVariable(profile);
-        if (maxRange > 0) {
-            final Location playerLocation = profile.getPlayer().getLocation();
-            final Location hologramLocation = hologram.getLocation();
-
-            if (!playerLocation.getWorld().equals(hologramLocation.getWorld())) {
-                return true;
-            }
-            final double distanceSquared = playerLocation.distanceSquared(hologramLocation);
-            final double maxRangeSquared = maxRange * maxRange;
+        return isOutOfRange(profile.getPlayer().getLocation(), hologram.getLocation(), getMaxRangeFromVariable(profile));
+    }
 
-            return distanceSquared > maxRangeSquared;
+    private static boolean isOutOfRange(final Location playerLocation, final Location hologramLocation, final int maxRange) {
+        if (maxRange <= 0) {
+            return false;
+        }
+        if (!playerLocation.getWorld().equals(hologramLocation.getWorld())) {
+            return true;
+        }
+        final int chunkRange = (maxRange >> CHUNK_SHIFT) + 1;
+        if (Math.abs((playerLocation.getBlockX() >> CHUNK_SHIFT) - (hologramLocation.getBlockX() >> CHUNK_SHIFT)) > chunkRange
+                || Math.abs((playerLocation.getBlockZ() >> CHUNK_SHIFT) - (hologramLocation.getBlockZ() >> CHUNK_SHIFT)) > chunkRange) {
+            return true;
         }
-        return false;
+        final double maxRangeSquared = (double) maxRange * maxRange;
+        return playerLocation.distanceSquared(hologramLocation) > maxRangeSquared;
     }
 
     /**
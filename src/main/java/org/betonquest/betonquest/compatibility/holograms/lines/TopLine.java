@@ -1,9 +1,10 @@
 package org.betonquest.betonquest.compatibility.holograms.lines;
 
-import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.compatibility.holograms.BetonHologram;
 import org.bukkit.ChatColor;
 
+import java.util.List;
+
 /**
  * Creates a new instance for TopLine.
  */
@@ -32,40 +33,37 @@ public class TopLine extends AbstractLine {
     /**
      * Creates a new instance of ItemLine. Automatically creates and stores {@link TopXObject} from received data.
      *
-     * @param loggerFactory logger factory to use
-     * @param category      name of point as <code>package.name</code>
-     * @param orderType     direction of order
-     * @param limit         maximum number of lines displayed
-     * @param colors        color codes for individual parts of display (#, name, dash, and score)
+     * @param service   the service providing the leaderboard
+     * @param category  name of point as <code>package.name</code>
+     * @param orderType direction of order
+     * @param limit     maximum number of lines displayed
+     * @param colors    color codes for individual parts of display (#, name, dash, and score)
      */
-    public TopLine(final BetonQuestLoggerFactory loggerFactory, final String category, final TopXObject.OrderType orderType, final int limit, final FormatColors colors) {
+    public TopLine(final TopListService service, final String category, final TopXObject.OrderType orderType, final int limit, final FormatColors colors) {
         super(false, limit);
         this.category = category;
         this.orderType = orderType;
         this.colors = colors;
 
-        topXObject = new TopXObject(
-                loggerFactory.create(TopXObject.class), limit,
-                category,
-                orderType);
+        topXObject = new TopXObject(service, limit, category, orderType);
     }
 
     /**
-     * Updates the stored {@link TopXObject} and returns found entries as String-Array.
+     * Reads the current entries of the {@link TopXObject} and returns them as String-Array.
      * If retrieved lines are less than the limit, it will be filled with empty lines.
      *
      * @return Formatted lines ready for display on a hologram
      */
     public String[] getLines() {
-        topXObject.queryDB();
+        final List<TopXLine> entries = topXObject.getEntries();
 
         final String[] lines = new String[linesAdded];
         for (int i = 0; i < linesAdded; i++) {
-            if (i >= topXObject.getLineCount()) {
+            if (i >= entries.size()) {
                 lines[i] = "";
                 continue;
             }
-            final TopXLine line = topXObject.getEntries().get(i);
+            final TopXLine line = entries.get(i);
             lines[i] = colors.place.toString() + (i + 1) + ". " + colors.name + line.playerName() + colors.dash + " - " + colors.score + line.count();
         }
         return lines;
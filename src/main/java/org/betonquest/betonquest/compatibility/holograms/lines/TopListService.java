@@ -0,0 +1,373 @@
+package org.betonquest.betonquest.compatibility.holograms.lines;
+
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.database.Connector;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Shared leaderboards of point categories.
+ * <p>
+ * The leaderboards are loaded from the database asynchronously on a fixed schedule
+ * and updated in memory whenever the points of a player change in between.
+ * Reading a leaderboard never accesses the database, it returns an immutable snapshot.
+ * <p>
+ * As the database saver writes changes with a delay, the database may lag behind the memory.
+ * Points updated in memory therefore override the loaded points until the database caught up with them.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+public class TopListService implements Listener {
+    /**
+     * Amount of entries loaded beyond the largest requested limit,
+     * so players can move up when an entry drops out of the top between two refreshes.
+     */
+    private static final int BUFFER = 10;
+
+    /**
+     * Time in nanoseconds after which points updated in memory no longer override the loaded points,
+     * in case the database never catches up because the points were changed elsewhere.
+     */
+    /* default */ static final long OVERRIDE_RETENTION = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The plugin to schedule the refreshes with.
+     */
+    private final Plugin plugin;
+
+    /**
+     * The leaderboards by category and order.
+     */
+    private final Map<BoardKey, Board> boards;
+
+    /**
+     * Resolved player names by player UUID.
+     */
+    private final Map<UUID, String> names;
+
+    /**
+     * The task refreshing the leaderboards, if started.
+     */
+    @Nullable
+    private BukkitTask task;
+
+    /**
+     * Creates a new top list service without any leaderboards.
+     *
+     * @param log    the logger that will be used for logging
+     * @param plugin the plugin to schedule the refreshes with
+     */
+    public TopListService(final BetonQuestLogger log, final Plugin plugin) {
+        this.log = log;
+        this.plugin = plugin;
+        this.boards = new ConcurrentHashMap<>();
+        this.names = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts refreshing the leaderboards from the database.
+     *
+     * @param interval the interval in ticks between two refreshes
+     */
+    public void start(final long interval) {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::refreshAll, interval, interval);
+    }
+
+    /**
+     * Stops refreshing and drops all leaderboards.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        boards.clear();
+        names.clear();
+    }
+
+    /**
+     * Gets the top entries of a point category.
+     * A leaderboard that was not requested before is loaded asynchronously and is empty until then.
+     *
+     * @param category  the point category as <code>package.name</code>
+     * @param orderType the order of the entries
+     * @param limit     the maximum number of entries
+     * @return an immutable list of at most {@code limit} entries
+     */
+    public List<TopXLine> getEntries(final String category, final TopXObject.OrderType orderType, final int limit) {
+        final BoardKey key = new BoardKey(category, orderType);
+        final Board board = boards.computeIfAbsent(key, boardKey -> new Board(orderType, System::nanoTime));
+        if (board.require(limit)) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> refresh(key, board));
+        }
+        final List<TopXLine> entries = board.getSnapshot();
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private void refreshAll() {
+        boards.forEach((key, board) -> {
+            board.shrinkToRequested();
+            refresh(key, board);
+        });
+    }
+
+    private void refresh(final BoardKey key, final Board board) {
+        final long queryStart = System.nanoTime();
+        final int rows = board.getLimit() + BUFFER;
+        final Map<UUID, Entry> loaded = new LinkedHashMap<>();
+        try (Connector con = new Connector();
+             ResultSet resultSet = con.querySQL(key.orderType().getType(), statement -> {
+                 statement.setString(1, key.category());
+                 statement.setInt(2, rows);
+             })) {
+            while (resultSet.next()) {
+                final UUID playerID = UUID.fromString(resultSet.getString("playerID"));
+                loaded.put(playerID, new Entry(resolveName(playerID, null), resultSet.getLong("count")));
+            }
+        } catch (final SQLException e) {
+            log.error("There was an SQL exception while querying the top " + rows + " of " + key.category(), e);
+            return;
+        }
+        board.merge(loaded, rows, queryStart);
+    }
+
+    private String resolveName(final UUID playerID, @Nullable final OfflinePlayer player) {
+        final String cached = names.get(playerID);
+        if (cached != null) {
+            return cached;
+        }
+        final String name = (player == null ? Bukkit.getOfflinePlayer(playerID) : player).getName();
+        if (name == null) {
+            return playerID.toString();
+        }
+        names.put(playerID, name);
+        return name;
+    }
+
+    /**
+     * Updates the leaderboards of the category with the new points of the player.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPointUpdate(final PlayerUpdatePointEvent event) {
+        for (final TopXObject.OrderType orderType : TopXObject.OrderType.values()) {
+            final Board board = boards.get(new BoardKey(event.getCategory(), orderType));
+            if (board != null) {
+                final OfflinePlayer player = event.getProfile().getPlayer();
+                board.update(player.getUniqueId(), resolveName(player.getUniqueId(), player), event.getNewCount());
+            }
+        }
+    }
+
+    /**
+     * Identifies a leaderboard.
+     *
+     * @param category  the point category
+     * @param orderType the order of the entries
+     */
+    private record BoardKey(String category, TopXObject.OrderType orderType) {
+    }
+
+    /**
+     * An entry of a leaderboard.
+     *
+     * @param name  the name of the player
+     * @param count the points of the player
+     */
+    /* default */ record Entry(String name, long count) {
+    }
+
+    /**
+     * Points of a player updated in memory.
+     *
+     * @param entry     the updated entry
+     * @param updatedAt the {@link System#nanoTime()} of the update
+     */
+    private record MemoryUpdate(Entry entry, long updatedAt) {
+    }
+
+    /**
+     * The entries of one leaderboard.
+     */
+    /* default */ static final class Board {
+        /**
+         * The order of the entries.
+         */
+        private final Comparator<Map.Entry<UUID, Entry>> order;
+
+        /**
+         * The current entries by player UUID.
+         */
+        private final Map<UUID, Entry> entries;
+
+        /**
+         * Points updated in memory that override the loaded points until the database caught up.
+         */
+        private final Map<UUID, MemoryUpdate> overrides;
+
+        /**
+         * Source of the current time in nanoseconds, like {@link System#nanoTime()}.
+         */
+        private final LongSupplier clock;
+
+        /**
+         * The sorted entries, replaced on every change.
+         */
+        private volatile List<TopXLine> snapshot;
+
+        /**
+         * The limit the board is loaded with, zero if the board was never requested.
+         */
+        private int limit;
+
+        /**
+         * The largest limit requested since the last scheduled refresh.
+         */
+        private int requested;
+
+        /**
+         * The amount of entries kept in memory.
+         */
+        private int capacity;
+
+        /**
+         * Creates a new empty leaderboard.
+         *
+         * @param orderType the order of the entries
+         * @param clock     the source of the current time in nanoseconds
+         */
+        /* default */ Board(final TopXObject.OrderType orderType, final LongSupplier clock) {
+            final Comparator<Map.Entry<UUID, Entry>> ascending = Comparator.comparingLong(entry -> entry.getValue().count());
+            this.order = orderType == TopXObject.OrderType.ASCENDING ? ascending : ascending.reversed();
+            this.entries = new LinkedHashMap<>();
+            this.overrides = new HashMap<>();
+            this.clock = clock;
+            this.snapshot = List.of();
+        }
+
+        /**
+         * Records a requested limit and raises the loaded limit if needed.
+         *
+         * @param requested the requested limit
+         * @return true if the limit was raised and the board has to be loaded
+         */
+        /* default */ synchronized boolean require(final int requested) {
+            this.requested = Math.max(this.requested, requested);
+            if (requested <= limit) {
+                return false;
+            }
+            limit = requested;
+            return true;
+        }
+
+        /**
+         * Lowers the loaded limit to the largest limit requested since the last call,
+         * so the board stops loading more entries than still needed. Keeps the limit if nothing was requested.
+         */
+        /* default */ synchronized void shrinkToRequested() {
+            if (requested > 0) {
+                limit = requested;
+            }
+            requested = 0;
+        }
+
+        /**
+         * Gets the limit the board is loaded with.
+         *
+         * @return the limit, zero if the board was never requested
+         */
+        /* default */ synchronized int getLimit() {
+            return limit;
+        }
+
+        /**
+         * Gets the sorted entries.
+         *
+         * @return an immutable list of the entries
+         */
+        /* default */ List<TopXLine> getSnapshot() {
+            return snapshot;
+        }
+
+        /**
+         * Replaces the entries with the loaded ones, keeping newer points updated in memory.
+         * An override is dropped once the database returned the same points for a query started after the update,
+         * once it dropped out of the board or once it expired.
+         *
+         * @param loaded     the entries loaded from the database
+         * @param rows       the amount of rows that were loaded
+         * @param queryStart the {@link System#nanoTime()} the query was started
+         */
+        /* default */ synchronized void merge(final Map<UUID, Entry> loaded, final int rows, final long queryStart) {
+            entries.clear();
+            entries.putAll(loaded);
+            overrides.entrySet().removeIf(override -> {
+                final MemoryUpdate value = override.getValue();
+                final boolean older = value.updatedAt() - queryStart < 0;
+                final Entry stored = loaded.get(override.getKey());
+                if (older && (stored != null && stored.count() == value.entry().count()
+                        || queryStart - value.updatedAt() > OVERRIDE_RETENTION)) {
+                    return true;
+                }
+                entries.put(override.getKey(), value.entry());
+                return false;
+            });
+            capacity = rows;
+            publish();
+            overrides.entrySet().removeIf(override -> override.getValue().updatedAt() - queryStart < 0
+                    && !entries.containsKey(override.getKey()));
+        }
+
+        /**
+         * Updates the points of a player, overriding the loaded points until the database caught up.
+         *
+         * @param playerID the UUID of the player
+         * @param name     the name of the player
+         * @param count    the new points of the player
+         */
+        /* default */ synchronized void update(final UUID playerID, final String name, final long count) {
+            final Entry entry = new Entry(name, count);
+            entries.put(playerID, entry);
+            overrides.put(playerID, new MemoryUpdate(entry, clock.getAsLong()));
+            publish();
+        }
+
+        private void publish() {
+            final List<Map.Entry<UUID, Entry>> sorted = new ArrayList<>(entries.entrySet());
+            sorted.sort(order);
+            entries.clear();
+            final List<TopXLine> lines = new ArrayList<>(Math.min(sorted.size(), capacity));
+            for (final Map.Entry<UUID, Entry> entry : sorted.subList(0, Math.min(sorted.size(), capacity))) {
+                entries.put(entry.getKey(), entry.getValue());
+                lines.add(new TopXLine(entry.getValue().name(), entry.getValue().count()));
+            }
+            snapshot = List.copyOf(lines);
+        }
+    }
+}
@@ -1,24 +1,17 @@
 package org.betonquest.betonquest.compatibility.holograms.lines;
 
-import org.betonquest.betonquest.api.logger.BetonQuestLogger;
-import org.betonquest.betonquest.database.Connector;
 import org.betonquest.betonquest.database.QueryType;
-import org.bukkit.Bukkit;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Holds data of a ranking.
  */
 public class TopXObject {
     /**
-     * Custom {@link BetonQuestLogger} instance for this class.
+     * The service providing the leaderboard.
      */
-    private final BetonQuestLogger log;
+    private final TopListService service;
 
     /**
      * Number of lines stored in maximum.
@@ -35,60 +28,35 @@ public class TopXObject {
      */
     private final OrderType orderType;
 
-    /**
-     * Entries of last database request. Will not exceed {@link #limit}.
-     */
-    private final List<TopXLine> entries = new ArrayList<>();
-
     /**
      * Creates new instance of TopXObject.
      *
-     * @param log       the logger that will be used for logging
+     * @param service   the service providing the leaderboard
      * @param limit     Number of lines
      * @param category  Name of point
      * @param orderType Direction of order
      */
-    public TopXObject(final BetonQuestLogger log, final int limit, final String category, final OrderType orderType) {
-        this.log = log;
+    public TopXObject(final TopListService service, final int limit, final String category, final OrderType orderType) {
+        this.service = service;
         this.category = category;
         this.limit = limit;
         this.orderType = orderType;
     }
 
     /**
-     * Returns the entries of the last database request.
+     * Returns the current entries of the leaderboard. Will not exceed {@link #limit}.
      *
-     * @return List of {@link TopXLine} entries.
+     * @return immutable List of {@link TopXLine} entries.
      */
     public List<TopXLine> getEntries() {
-        return entries;
-    }
-
-    /**
-     * Updates the currently stored entries with data from the database.
-     */
-    public void queryDB() {
-        entries.clear();
-        final Connector con = new Connector();
-
-        try (ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
-            statement.setString(1, category);
-            statement.setInt(2, limit);
-        })) {
-            while (resultSet.next()) {
-                final String playerName = Bukkit.getOfflinePlayer(UUID.fromString(resultSet.getString("playerID"))).getName();
-                entries.add(new TopXLine(playerName, resultSet.getLong("count")));
-            }
-        } catch (final SQLException e) {
-            log.error("There was an SQL exception while querying the top " + limit, e);
-        }
+        return service.getEntries(category, orderType, limit);
     }
 
     /**
-     * Returns the number of lines actually retrieved from the database. May differ from {@link #limit} when not enough
+     * Returns the number of lines currently in the leaderboard. May differ from {@link #limit} when not enough
      * players have had alterations to that point made. Can be 0 under the following circumstances:
      * <ul>
-     *     <li>{@link #queryDB()} has not been called on this object</li>
+     *     <li>The leaderboard has not been loaded yet</li>
      *     <li>No player has had alterations to the specified point</li>
      *     <li>Specified point does not exist</li>
      * </ul>
@@ -96,11 +64,11 @@ public class TopXObject {
      * @return Amount of lines
      */
     public int getLineCount() {
-        return entries.size();
+        return getEntries().size();
     }
 
     /**
-     * Order in which the scores are sorted by {@link #queryDB()}.
+     * Order in which the scores are sorted.
      */
     public enum OrderType {
         /**
@@ -42,7 +42,7 @@ public class PaymentObjective extends Objective implements Listener {
      * @throws QuestException if the instruction is invalid
      */
     public PaymentObjective(final Instruction instruction, final Variable<Number> targetAmount, final IngameNotificationSender paymentSender) throws QuestException {
-        super(instruction, PaymentData.class);
+        super(instruction, PaymentData::new);
         this.targetAmount = targetAmount;
         this.paymentSender = paymentSender;
     }
@@ -55,8 +55,8 @@ public class CitizensMoveEventFactory implements PlayerEventFactory {
         final Variable<NpcID> npcId = instruction.get(CitizensArgument.CITIZENS_ID);
         final Variable<List<Location>> locations = instruction.getList(Argument.LOCATION, VariableList.notEmptyChecker());
         final Variable<Number> waitTicks = instruction.getValue("wait", Argument.NUMBER, 0);
-        final Variable<List<EventID>> doneEvents = instruction.getValueList("done", EventID::new);
-        final Variable<List<EventID>> failEvents = instruction.getValueList("fail", EventID::new);
+        final Variable<List<EventID>> doneEvents = instruction.getValueList("done", EventID::of);
+        final Variable<List<EventID>> failEvents = instruction.getValueList("fail", EventID::of);
         final boolean blockConversations = instruction.hasArgument("block");
         final CitizensMoveController.MoveData moveAction = new CitizensMoveController.MoveData(locations, waitTicks,
                 doneEvents, failEvents, blockConversations);
@@ -0,0 +1,177 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import java.util.Arrays;
+
+/**
+ * Set of observer and entity ID pairs that can be read from any thread without locking or allocating.
+ * <p>
+ * Each pair is stored as a single {@code long} with the observer in the upper and the entity in the lower 32 bits.
+ * The pairs are split into stripes by their entity ID. Each stripe holds its pairs in a sorted array,
+ * which is replaced on every change, so readers only need a binary search on the current array.
+ * Changes are rare compared to the lookups for every entity packet.
+ */
+final class VisibilityTable {
+    /**
+     * The amount of stripes, a power of two.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * Mask to get the entity ID from a key.
+     */
+    private static final long ENTITY_MASK = 0xFFFF_FFFFL;
+
+    /**
+     * The stripes holding the pairs.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * Creates a new empty table.
+     */
+    /* default */ VisibilityTable() {
+        stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private static long key(final int observer, final int entity) {
+        return (long) observer << 32 | entity & ENTITY_MASK;
+    }
+
+    private Stripe stripe(final int entity) {
+        return stripes[(entity ^ entity >>> 16) & STRIPES - 1];
+    }
+
+    /**
+     * Checks if the pair is present.
+     *
+     * @param observer the entity ID of the observer
+     * @param entity   the entity ID of the observed entity
+     * @return true if the pair is present
+     */
+    /* default */ boolean contains(final int observer, final int entity) {
+        return Arrays.binarySearch(stripe(entity).keys, key(observer, entity)) >= 0;
+    }
+
+    /**
+     * Adds the pair.
+     *
+     * @param observer the entity ID of the observer
+     * @param entity   the entity ID of the observed entity
+     * @return true if the pair was already present
+     */
+    /* default */ boolean add(final int observer, final int entity) {
+        return !stripe(entity).add(key(observer, entity));
+    }
+
+    /**
+     * Removes the pair.
+     *
+     * @param observer the entity ID of the observer
+     * @param entity   the entity ID of the observed entity
+     * @return true if the pair was present
+     */
+    /* default */ boolean remove(final int observer, final int entity) {
+        return stripe(entity).remove(key(observer, entity));
+    }
+
+    /**
+     * Removes all pairs with the entity.
+     *
+     * @param entity the entity ID of the observed entity
+     */
+    /* default */ void removeEntity(final int entity) {
+        stripe(entity).removeEntity(entity);
+    }
+
+    /**
+     * Removes all pairs with the observer.
+     *
+     * @param observer the entity ID of the observer
+     */
+    /* default */ void removeObserver(final int observer) {
+        for (final Stripe stripe : stripes) {
+            stripe.removeObserver(observer);
+        }
+    }
+
+    /**
+     * A part of the pairs, replaced as a whole on every change.
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    private static final class Stripe {
+        /**
+         * The sorted keys of the pairs.
+         */
+        @SuppressWarnings("PMD.AvoidUsingVolatile")
+        private volatile long[] keys = new long[0];
+
+        private synchronized boolean add(final long key) {
+            final long[] current = keys;
+            final int index = Arrays.binarySearch(current, key);
+            if (index >= 0) {
+                return false;
+            }
+            final int insert = -index - 1;
+            final long[] changed = new long[current.length + 1];
+            System.arraycopy(current, 0, changed, 0, insert);
+            changed[insert] = key;
+            System.arraycopy(current, insert, changed, insert + 1, current.length - insert);
+            keys = changed;
+            return true;
+        }
+
+        private synchronized boolean remove(final long key) {
+            final long[] current = keys;
+            final int index = Arrays.binarySearch(current, key);
+            if (index < 0) {
+                return false;
+            }
+            keys = removeRange(current, index, index + 1);
+            return true;
+        }
+
+        private synchronized void removeEntity(final int entity) {
+            final long[] current = keys;
+            int kept = 0;
+            for (final long key : current) {
+                if ((key & ENTITY_MASK) != (entity & ENTITY_MASK)) {
+                    kept++;
+                }
+            }
+            if (kept == current.length) {
+                return;
+            }
+            final long[] changed = new long[kept];
+            int index = 0;
+            for (final long key : current) {
+                if ((key & ENTITY_MASK) != (entity & ENTITY_MASK)) {
+                    changed[index++] = key;
+                }
+            }
+            keys = changed;
+        }
+
+        private synchronized void removeObserver(final int observer) {
+            final long[] current = keys;
+            final int index = Arrays.binarySearch(current, key(observer, 0));
+            final int from = index >= 0 ? index : -index - 1;
+            int end = from;
+            while (end < current.length && (int) (current[end] >>> 32) == observer) {
+                end++;
+            }
+            if (from < end) {
+                keys = removeRange(current, from, end);
+            }
+        }
+
+        private static long[] removeRange(final long[] keys, final int from, final int to) {
+            final long[] changed = new long[keys.length - (to - from)];
+            System.arraycopy(keys, 0, changed, 0, from);
+            System.arraycopy(keys, to, changed, from, keys.length - to);
+            return changed;
+        }
+    }
+}
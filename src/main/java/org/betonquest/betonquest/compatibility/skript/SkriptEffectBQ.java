@@ -56,7 +56,7 @@ public class SkriptEffectBQ extends Effect {
                 final String eventID = SkriptEffectBQ.this.event.getSingle(event);
                 try {
                     final ProfileProvider profileProvider = BetonQuest.getInstance().getProfileProvider();
-                    BetonQuest.getInstance().getQuestTypeAPI().event(profileProvider.getProfile(player.getSingle(event)), new EventID(null, eventID));
+                    BetonQuest.getInstance().getQuestTypeAPI().event(profileProvider.getProfile(player.getSingle(event)), EventID.of(null, eventID));
                 } catch (final QuestException e) {
                     log.warn("Error when running Skript event - could not load '" + eventID + "' event: " + e.getMessage(), e);
                 }
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.compatibility.traincarts.objectives;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
@@ -9,9 +8,7 @@ import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.types.location.LocationParser;
 import org.betonquest.betonquest.instruction.variable.Variable;
 import org.betonquest.betonquest.quest.objective.location.AbstractLocationObjective;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 
 /**
@@ -42,16 +39,6 @@ public class TrainCartsLocationObjective extends AbstractLocationObjective imple
         this.range = range;
     }
 
-    @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
-    }
-
     @Override
     public String getDefaultDataInstruction() {
         return "";
@@ -1,15 +1,12 @@
 package org.betonquest.betonquest.compatibility.worldguard;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.variable.Variable;
 import org.betonquest.betonquest.quest.objective.location.AbstractLocationObjective;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
 
 /**
  * The region objective requires the player to be inside a specific region.
@@ -37,16 +34,6 @@ public class RegionObjective extends AbstractLocationObjective {
         return WorldGuardIntegrator.isInsideRegion(location, name.getValue(onlineProfile));
     }
 
-    @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
-    }
-
     @Override
     public String getDefaultDataInstruction() {
         return "";
@@ -11,6 +11,7 @@ import org.betonquest.betonquest.config.patcher.migration.VersionMissmatchExcept
 import org.betonquest.betonquest.config.quest.Quest;
 import org.betonquest.betonquest.config.quest.QuestPackageImpl;
 import org.betonquest.betonquest.config.quest.QuestTemplate;
+import org.betonquest.betonquest.util.ParallelLoader;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.jetbrains.annotations.Nullable;
 
@@ -20,9 +21,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class to load all {@link QuestTemplate}s and {@link QuestPackage}s from the root directory and apply all templates.
+ * <p>
+ * The quest files are searched first, then the templates and afterward the packages are parsed and migrated in parallel.
  */
 @SuppressWarnings("PMD.DataClass")
 public class QuestManager {
@@ -82,37 +87,59 @@ public class QuestManager {
             return;
         }
 
-        final Map<String, QuestTemplate> templates = new HashMap<>();
+        final long start = System.nanoTime();
+        final List<QuestLocation> templateLocations = new ArrayList<>();
+        final List<QuestLocation> packageLocations = new ArrayList<>();
         try {
-            searchForPackages(templatesDir, templatesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, (questPath, questFile, files) -> {
-                final QuestTemplate quest = new QuestTemplate(loggerFactory.create(QuestTemplate.class), configAccessorFactory, questPath, questFile, files);
-                try {
-                    questMigrator.migrate(quest);
-                } catch (final VersionMissmatchException e) {
-                    log.warn("QuestTemplate '" + quest.getQuestPath() + "': " + e.getMessage(), e);
-                }
-                templates.put(quest.getQuestPath(), quest);
-            });
-            searchForPackages(packagesDir, packagesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, (questPath, questFile, files) -> {
-                final QuestPackageImpl quest = new QuestPackageImpl(loggerFactory.create(QuestPackageImpl.class), configAccessorFactory, questPath, questFile, files);
-                try {
-                    questMigrator.migrate(quest);
-                } catch (final VersionMissmatchException e) {
-                    log.warn("QuestPackage '" + quest.getQuestPath() + "': " + e.getMessage(), e);
-                }
-                try {
-                    quest.applyQuestTemplates(templates);
-                } catch (final InvalidConfigurationException e) {
-                    log.warn("Error while loading QuestPackage '" + quest.getQuestPath() + "'! Reason: " + e.getMessage(), e);
-                    return;
-                }
-                if (quest.getConfig().getBoolean("package.enabled", true)) {
-                    packages.put(quest.getQuestPath(), quest);
-                }
-            });
+            searchForPackages(templatesDir, templatesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, templateLocations);
+            searchForPackages(packagesDir, packagesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, packageLocations);
         } catch (final IOException e) {
             log.error("Error while loading '" + packagesDir.getPath() + "'!", e);
+            return;
+        }
+
+        final long templatesStart = System.nanoTime();
+        final BetonQuestLogger templateLog = loggerFactory.create(QuestTemplate.class);
+        final Map<String, QuestTemplate> templates = new HashMap<>();
+        for (final QuestTemplate quest : createQuests(templatesDir, templateLocations, (questPath, questFile, files) -> {
+            final QuestTemplate quest = new QuestTemplate(templateLog, configAccessorFactory, questPath, questFile, files);
+            try {
+                questMigrator.migrate(quest);
+            } catch (final VersionMissmatchException e) {
+                log.warn("QuestTemplate '" + quest.getQuestPath() + "': " + e.getMessage(), e);
+            }
+            return quest;
+        })) {
+            templates.put(quest.getQuestPath(), quest);
+        }
+        applyTemplatesToTemplates(templates);
+
+        final long packagesStart = System.nanoTime();
+        final BetonQuestLogger packageLog = loggerFactory.create(QuestPackageImpl.class);
+        for (final QuestPackageImpl quest : createQuests(packagesDir, packageLocations, (questPath, questFile, files) -> {
+            final QuestPackageImpl quest = new QuestPackageImpl(packageLog, configAccessorFactory, questPath, questFile, files);
+            try {
+                questMigrator.migrate(quest);
+            } catch (final VersionMissmatchException e) {
+                log.warn("QuestPackage '" + quest.getQuestPath() + "': " + e.getMessage(), e);
+            }
+            try {
+                quest.applyQuestTemplates(templates);
+            } catch (final InvalidConfigurationException e) {
+                log.warn("Error while loading QuestPackage '" + quest.getQuestPath() + "'! Reason: " + e.getMessage(), e);
+                return null;
+            }
+            return quest;
+        })) {
+            if (quest.getConfig().getBoolean("package.enabled", true)) {
+                packages.put(quest.getQuestPath(), quest);
+            }
         }
+        final long end = System.nanoTime();
+
+        log.info("Loading " + templates.size() + " templates and " + packages.size() + " packages took "
+                + millis(start, end) + " ms (searching " + millis(start, templatesStart) + " ms, templates "
+                + millis(templatesStart, packagesStart) + " ms, packages " + millis(packagesStart, end) + " ms).");
     }
 
     /**
@@ -132,25 +159,74 @@ public class QuestManager {
         return true;
     }
 
-    private List<File> searchForPackages(final File root, final File file, final String fileNameIndicator, final String fileTypeIndicator, final QuestCreator creator) throws IOException {
+    private static long millis(final long fromNanos, final long toNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(toNanos - fromNanos);
+    }
+
+    /**
+     * Applies the templates to each other before the packages use them.
+     * <p>
+     * Templates apply their own templates lazily, so doing it upfront allows the packages
+     * to apply the templates in parallel without modifying them.
+     * Templates that can not be applied are reported by the packages using them.
+     *
+     * @param templates all loaded templates
+     */
+    private void applyTemplatesToTemplates(final Map<String, QuestTemplate> templates) {
+        for (final QuestTemplate template : templates.values()) {
+            try {
+                template.applyQuestTemplates(templates);
+            } catch (final InvalidConfigurationException e) {
+                log.debug("QuestTemplate '" + template.getQuestPath() + "' could not be applied: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Parses, migrates and creates the quests in parallel.
+     *
+     * @param root      the root directory of the quests
+     * @param locations the locations of the quests
+     * @param creator   the creator of a single quest
+     * @param <T>       the type of the quests
+     * @return the created quests in the order of their locations
+     */
+    private <T extends Quest> List<T> createQuests(final File root, final List<QuestLocation> locations, final QuestCreator<T> creator) {
+        return ParallelLoader.map("BetonQuest Quest Loader", locations, location -> createQuest(root, location, creator))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Nullable
+    private <T extends Quest> T createQuest(final File root, final QuestLocation location, final QuestCreator<T> creator) {
+        try {
+            return creator.create(location.questPath(), location.relativeRoot(), location.files());
+        } catch (final InvalidConfigurationException | IOException e) {
+            log.warn(root.getParentFile().getName() + " '" + location.questPath() + "' could not be loaded, reason: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private List<File> searchForPackages(final File root, final File file, final String fileNameIndicator, final String fileTypeIndicator, final List<QuestLocation> locations) throws IOException {
         final File[] fileArray = checkAndGetFiles(file);
         final List<File> files = new ArrayList<>();
-        final File questFile = searchQuestFile(root, fileNameIndicator, fileTypeIndicator, creator, fileArray, files);
+        final File questFile = searchQuestFile(root, fileNameIndicator, fileTypeIndicator, locations, fileArray, files);
         if (questFile != null) {
             files.add(questFile);
-            createPackage(root, questFile.getParentFile(), files, creator);
+            locations.add(locatePackage(root, questFile.getParentFile(), files));
             files.clear();
         }
         return files;
     }
 
     @Nullable
-    private File searchQuestFile(final File root, final String fileNameIndicator, final String fileTypeIndicator, final QuestCreator creator, final File[] fileArray, final List<File> files) {
+    private File searchQuestFile(final File root, final String fileNameIndicator, final String fileTypeIndicator, final List<QuestLocation> locations, final File[] fileArray, final List<File> files) {
         File questFile = null;
         for (final File subFile : fileArray) {
             if (subFile.isDirectory()) {
                 try {
-                    files.addAll(searchForPackages(root, subFile, fileNameIndicator, fileTypeIndicator, creator));
+                    files.addAll(searchForPackages(root, subFile, fileNameIndicator, fileTypeIndicator, locations));
                 } catch (final IOException e) {
                     log.warn(e.getMessage(), e);
                 }
@@ -179,32 +255,44 @@ public class QuestManager {
         return files;
     }
 
-    private void createPackage(final File root, final File relativeRoot, final List<File> files, final QuestCreator creator) {
+    private QuestLocation locatePackage(final File root, final File relativeRoot, final List<File> files) {
         final String questPath = root.toURI().relativize(relativeRoot.toURI())
                 .toString().replace('/', ' ').trim().replaceAll(" ", PACKAGE_SEPARATOR);
-        try {
-            creator.create(questPath, relativeRoot, files);
-        } catch (final InvalidConfigurationException | IOException e) {
-            log.warn(root.getParentFile().getName() + " '" + questPath + "' could not be loaded, reason: " + e.getMessage(), e);
-        }
+        return new QuestLocation(questPath, relativeRoot, List.copyOf(files));
     }
 
     /**
-     * Simple interface to create and register a {@link Quest}.
+     * The files of a {@link Quest} found in a root directory.
+     *
+     * @param questPath    The path to this {@link Quest}
+     * @param relativeRoot the root file of this {@link Quest}
+     * @param files        All files of this {@link Quest}
+     */
+    private record QuestLocation(String questPath, File relativeRoot, List<File> files) {
+    }
+
+    /**
+     * Simple interface to create a {@link Quest}.
+     * <p>
+     * Quests are created in parallel, so the creator must not modify shared state.
+     *
+     * @param <T> the type of the created {@link Quest}
      */
     @FunctionalInterface
-    private interface QuestCreator {
+    private interface QuestCreator<T extends Quest> {
         /**
-         * Creates and registers a {@link Quest}.
+         * Creates a {@link Quest}.
          *
          * @param questPath    The path to this {@link Quest}
          * @param relativeRoot the root file of this {@link Quest}
          * @param files        All files of this {@link Quest}
+         * @return the created {@link Quest} or null if it should not be loaded
          * @throws InvalidConfigurationException thrown if a {@link Quest} could not be created
          *                                       or an exception occurred while creating the {@link MultiConfiguration}
          * @throws IOException                   thrown if a file could not be found during the creation
          *                                       of a {@link ConfigAccessor} or could not be saved while migrating
          */
-        void create(String questPath, File relativeRoot, List<File> files) throws InvalidConfigurationException, IOException;
+        @Nullable
+        T create(String questPath, File relativeRoot, List<File> files) throws InvalidConfigurationException, IOException;
     }
 }
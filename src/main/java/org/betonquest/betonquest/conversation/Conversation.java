@@ -1,7 +1,6 @@
 package org.betonquest.betonquest.conversation;
 
 import net.kyori.adventure.text.Component;
-import org.apache.commons.lang3.tuple.Pair;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.bukkit.event.ConversationOptionEvent;
 import org.betonquest.betonquest.api.bukkit.event.PlayerConversationEndEvent;
@@ -40,7 +39,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -70,6 +68,11 @@ public class Conversation implements Listener {
      */
     private static final String FOR = "' for '";
 
+    /**
+     * Maximum time in seconds to wait for the conditions of a player option.
+     */
+    private static final long OPTION_CONDITIONS_TIMEOUT = 1;
+
     /**
      * The map of all active conversations.
      */
@@ -134,6 +137,16 @@ public class Conversation implements Listener {
      */
     private final Map<Integer, ResolvedOption> availablePlayerOptions = new HashMap<>();
 
+    /**
+     * The time it took to resolve the displayed player options.
+     */
+    private final OptionLatency optionLatency = new OptionLatency();
+
+    /**
+     * Checks the conditions of the player options.
+     */
+    private final OptionResolver<ResolvedOption> optionResolver;
+
     /**
      * If an interceptor should delay non-conversation messages.
      */
@@ -214,6 +227,9 @@ public class Conversation implements Listener {
         this.log = log;
         this.conv = this;
         this.plugin = BetonQuest.getInstance();
+        this.optionResolver = new OptionResolver<>(
+                option -> option.conversationData().getConditionIDs(option.name(), option.type()),
+                this::checkOptionConditions, task -> Bukkit.getScheduler().runTaskAsynchronously(plugin, task));
         this.onlineProfile = onlineProfile;
         this.player = onlineProfile.getPlayer();
         this.identifier = conversationID;
@@ -339,57 +355,79 @@ public class Conversation implements Listener {
     /**
      * Selects all options the player can choose from based on the conditions.
      * Then passes these onto the conversationIO for printing.
+     * <p>
+     * The conditions of all options are checked concurrently without blocking,
+     * options with the same conditions share a single check.
+     * The options are displayed once all checks are done.
      *
      * @param options list of pointers to player options separated by commas
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
     private void printOptions(final List<ResolvedOption> options) {
-        final List<Pair<ResolvedOption, List<CompletableFuture<Boolean>>>> futuresOptions = new ArrayList<>();
-        for (final ResolvedOption option : options) {
-            final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
-            for (final ConditionID conditionID : option.conversationData().getConditionIDs(option.name(), option.type())) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> BetonQuest.getInstance().getQuestTypeAPI().condition(onlineProfile, conditionID));
-                conditions.add(future);
-            }
-            futuresOptions.add(Pair.of(option, conditions));
+        final long start = System.nanoTime();
+        optionResolver.resolve(options, available -> displayOptions(available, options.size(), start),
+                () -> new ConversationEnder().runTask(plugin)).exceptionally(throwable -> {
+            log.reportException(pack, throwable);
+            new ConversationEnder().runTask(plugin);
+            return null;
+        });
+    }
+
+    private CompletableFuture<Boolean> checkOptionConditions(final List<ConditionID> conditionIDs) {
+        if (conditionIDs.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
         }
+        return plugin.getQuestTypeAPI().conditionsAsync(onlineProfile, conditionIDs).toCompletableFuture()
+                .orTimeout(OPTION_CONDITIONS_TIMEOUT, TimeUnit.SECONDS)
+                .exceptionally(throwable -> {
+                    log.reportException(pack, throwable);
+                    return false;
+                });
+    }
 
-        int optionsCount = 0;
-        option:
-        for (final Pair<ResolvedOption, List<CompletableFuture<Boolean>>> future : futuresOptions) {
-            try {
-                for (final CompletableFuture<Boolean> completableFuture : future.getValue()) {
-                    if (!completableFuture.get(1, TimeUnit.SECONDS)) {
-                        continue option;
-                    }
-                }
-            } catch (final CancellationException | InterruptedException | ExecutionException | TimeoutException e) {
-                log.reportException(pack, e);
-                continue;
+    private void displayOptions(final List<ResolvedOption> options, final int total, final long start) {
+        if (state.isInactive()) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            if (state.isInactive()) {
+                return;
             }
-            final ResolvedOption option = future.getKey();
-            optionsCount++;
-            availablePlayerOptions.put(optionsCount, option);
+            int optionsCount = 0;
+            for (final ResolvedOption option : options) {
+                optionsCount++;
+                availablePlayerOptions.put(optionsCount, option);
 
-            try {
-                inOut.addPlayerOption(data.getText(onlineProfile, option), data.getProperties(onlineProfile, option));
-            } catch (final QuestException e) {
-                log.warn(pack, "Error while adding option '" + option.name() + "': " + e.getMessage(), e);
-            }
-        }
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                inOut.display();
+                try {
+                    inOut.addPlayerOption(data.getText(onlineProfile, option), data.getProperties(onlineProfile, option));
+                } catch (final QuestException e) {
+                    log.warn(pack, "Error while adding option '" + option.name() + "': " + e.getMessage(), e);
+                }
             }
-        }.runTask(BetonQuest.getInstance());
-        // end conversations if there are no possible options
-        if (availablePlayerOptions.isEmpty()) {
-            new ConversationEnder().runTask(BetonQuest.getInstance());
+            final long nanos = System.nanoTime() - start;
+            optionLatency.record(nanos);
+            log.debug(pack, "Resolved " + optionsCount + " of " + total + " options in conversation '"
+                    + identifier.getFullID() + FOR + onlineProfile + "' in " + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms.");
+            new BukkitRunnable() {
+                @Override
+                public void run() {
+                    inOut.display();
+                }
+            }.runTask(BetonQuest.getInstance());
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
+    /**
+     * Gets how long this conversation took to resolve the player options it displayed.
+     *
+     * @return the option latency
+     */
+    public OptionLatency getOptionLatency() {
+        return optionLatency;
+    }
+
     /**
      * Ends conversation, firing final events and removing it from the list of
      * active conversations.
@@ -627,8 +627,8 @@ public class ConversationData {
             }
 
             this.text = parseText(conv);
-            this.conditions = resolve(conv, "conditions", ConditionID::new);
-            this.events = resolve(conv, "events", EventID::new);
+            this.conditions = resolve(conv, "conditions", ConditionID::of);
+            this.events = resolve(conv, "events", EventID::of);
 
             pointers = resolve(conv, "pointers", Argument.STRING).stream()
                     .filter(StringUtils::isNotEmpty)
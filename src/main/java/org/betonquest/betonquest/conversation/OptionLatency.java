@@ -0,0 +1,84 @@
+package org.betonquest.betonquest.conversation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a conversation takes to resolve the player options it displays.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+public final class OptionLatency {
+    /**
+     * The amount of resolved option sets.
+     */
+    private long count;
+
+    /**
+     * The sum of all resolution times in nanoseconds.
+     */
+    private long totalNanos;
+
+    /**
+     * The longest resolution time in nanoseconds.
+     */
+    private long maxNanos;
+
+    /**
+     * The last resolution time in nanoseconds.
+     */
+    private long lastNanos;
+
+    /**
+     * Creates a new empty latency measurement.
+     */
+    public OptionLatency() {
+        // Empty
+    }
+
+    /**
+     * Records the time it took to resolve an option set.
+     *
+     * @param nanos the resolution time in nanoseconds
+     */
+    public synchronized void record(final long nanos) {
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        lastNanos = nanos;
+    }
+
+    /**
+     * Gets the amount of resolved option sets.
+     *
+     * @return the count
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the average resolution time.
+     *
+     * @return the average in milliseconds, zero if nothing was resolved yet
+     */
+    public synchronized double getAverageMillis() {
+        return count == 0 ? 0 : (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets the longest resolution time.
+     *
+     * @return the maximum in milliseconds
+     */
+    public synchronized double getMaxMillis() {
+        return (double) maxNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets the last resolution time.
+     *
+     * @return the last time in milliseconds
+     */
+    public synchronized double getLastMillis() {
+        return (double) lastNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,79 @@
+package org.betonquest.betonquest.conversation;
+
+import org.betonquest.betonquest.id.ConditionID;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Checks the conditions of player options concurrently without blocking.
+ * Options with the same conditions share a single check.
+ *
+ * @param <T> the type of the options
+ */
+public class OptionResolver<T> {
+    /**
+     * Gets the conditions of an option.
+     */
+    private final Function<T, List<ConditionID>> conditions;
+
+    /**
+     * Checks a list of conditions.
+     */
+    private final Function<List<ConditionID>, CompletableFuture<Boolean>> checker;
+
+    /**
+     * The executor to handle the available options with once all checks are done.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates a new option resolver.
+     *
+     * @param conditions the function to get the conditions of an option
+     * @param checker    the function to check a list of conditions
+     * @param executor   the executor to handle the available options with
+     */
+    public OptionResolver(final Function<T, List<ConditionID>> conditions,
+                          final Function<List<ConditionID>, CompletableFuture<Boolean>> checker, final Executor executor) {
+        this.conditions = conditions;
+        this.checker = checker;
+        this.executor = executor;
+    }
+
+    /**
+     * Checks the conditions of all options and passes the available ones to the display.
+     * The end is called afterward if no option is available.
+     *
+     * @param options the options to check
+     * @param display the consumer of the available options in their original order
+     * @param end     the action to run if no option is available
+     * @return the future completed once the options were handled,
+     * completed exceptionally if a check, the display or the end failed
+     */
+    public CompletableFuture<Void> resolve(final List<T> options, final Consumer<List<T>> display, final Runnable end) {
+        final Map<List<ConditionID>, CompletableFuture<Boolean>> checks = new HashMap<>();
+        final List<CompletableFuture<Boolean>> optionChecks = new ArrayList<>(options.size());
+        for (final T option : options) {
+            optionChecks.add(checks.computeIfAbsent(conditions.apply(option), checker));
+        }
+        return CompletableFuture.allOf(optionChecks.toArray(new CompletableFuture<?>[0])).thenRunAsync(() -> {
+            final List<T> available = new ArrayList<>(options.size());
+            for (int index = 0; index < options.size(); index++) {
+                if (optionChecks.get(index).join()) {
+                    available.add(options.get(index));
+                }
+            }
+            display.accept(available);
+            if (available.isEmpty()) {
+                end.run();
+            }
+        }, executor);
+    }
+}
@@ -141,6 +141,7 @@ public class PlayerDataStorage {
         PlayerData playerData = playerDataMap.get(profile);
         if (playerData == null) {
             if (profile.getOnlineProfile().isPresent()) {
+                log.debug("Data for " + profile + " was not prefetched on login, loading it now");
                 playerData = new PlayerData(profile);
                 put(profile, playerData);
             } else {
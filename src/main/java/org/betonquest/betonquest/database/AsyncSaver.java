@@ -6,17 +6,49 @@ import org.betonquest.betonquest.api.config.ConfigAccessor;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Listener;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Saves the data to the database asynchronously.
+ * <p>
+ * Records are collected into flush windows. A window is flushed once it holds {@code mysql.saver.batch_size} records
+ * or {@code mysql.saver.flush_interval} milliseconds passed since the first record arrived, whichever comes first.
+ * Each window is coalesced by the {@link RecordCoalescer} and written in a single transaction using JDBC batches.
+ * <p>
+ * While the database is not reachable and more than {@code mysql.saver.spill_threshold} records are waiting,
+ * the records are moved from memory to the {@link SaverJournal}. The journal is replayed before any newer record
+ * once the database is reachable again. Records still waiting when the plugin is disabled without a database
+ * connection are written to the journal as well.
  */
-@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement"})
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement", "PMD.TooManyMethods"})
 @SuppressFBWarnings("IS2_INCONSISTENT_SYNC")
 public class AsyncSaver extends Thread implements Listener, Saver {
 
+    /**
+     * The maximum time in milliseconds {@link #end()} waits for the remaining records to be saved.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 30_000;
+
+    /**
+     * The name of the journal file in the plugin folder.
+     */
+    private static final String JOURNAL_FILE = "saver-journal.log";
+
+    /**
+     * The minimum time in nanoseconds the saved records are counted before the rate is updated.
+     */
+    private static final long RATE_WINDOW = TimeUnit.SECONDS.toNanos(1);
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -30,18 +62,81 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     /**
      * The queue of records to be saved to the database.
      */
-    private final Queue<Record> queue;
+    private final Queue<QueuedRecord> queue;
+
+    /**
+     * Merges writes to the same row within a flush window.
+     */
+    private final RecordCoalescer coalescer;
+
+    /**
+     * The number of records currently in the {@link #queue}.
+     */
+    private final AtomicInteger queueSize;
+
+    /**
+     * The journal for records that could not be saved to the database, null if it could not be opened.
+     */
+    @Nullable
+    private final SaverJournal journal;
+
+    /**
+     * The total number of saved records.
+     */
+    private final AtomicLong savedRecords;
+
+    /**
+     * The total number of failed statements.
+     */
+    private final AtomicLong failedStatements;
 
     /**
      * The amount of time, until the AsyncSaver tries to reconnect if there was a connection loss.
      */
     private final long reconnectInterval;
 
+    /**
+     * The maximum amount of records written in one flush.
+     */
+    private final int batchSize;
+
+    /**
+     * The maximum time in milliseconds a record waits for more records before the window is flushed.
+     */
+    private final long flushInterval;
+
+    /**
+     * The number of waiting records above which they are spilled to the journal while the database is not reachable,
+     * zero to keep all records in memory.
+     */
+    private final int spillThreshold;
+
     /**
      * Whether the saver is currently running or not.
      */
     private boolean running;
 
+    /**
+     * Whether the last connection attempt succeeded.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile boolean connected;
+
+    /**
+     * The start of the current rate window in nanoseconds.
+     */
+    private long rateWindowStart;
+
+    /**
+     * The records saved in the current rate window.
+     */
+    private long rateWindowRecords;
+
+    /**
+     * The records saved per second in the last completed rate window.
+     */
+    private double recordsPerSecond;
+
     /**
      * Creates new database saver thread.
      *
@@ -49,63 +144,344 @@ public class AsyncSaver extends Thread implements Listener, Saver {
      * @param config the plugin configuration file
      */
     public AsyncSaver(final BetonQuestLogger log, final ConfigAccessor config) {
+        this(log, new Connector(), openJournal(log, new File(BetonQuest.getInstance().getDataFolder(), JOURNAL_FILE)),
+                config.getLong("mysql.reconnect_interval"), config.getInt("mysql.saver.batch_size", 100),
+                config.getLong("mysql.saver.flush_interval", 50), config.getInt("mysql.saver.spill_threshold", 10_000));
+        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+    }
+
+    /**
+     * Creates new database saver thread.
+     *
+     * @param log               the logger that will be used for logging
+     * @param con               the connector to save the records with
+     * @param journal           the journal to spill records to, null if not available
+     * @param reconnectInterval the time in milliseconds between connection attempts
+     * @param batchSize         the maximum amount of records written in one flush
+     * @param flushInterval     the maximum time in milliseconds a record waits for more records
+     * @param spillThreshold    the number of waiting records above which they are spilled to the journal
+     */
+    /* default */ AsyncSaver(final BetonQuestLogger log, final Connector con, @Nullable final SaverJournal journal,
+                             final long reconnectInterval, final int batchSize, final long flushInterval, final int spillThreshold) {
         super();
         this.log = log;
-        this.con = new Connector();
+        this.con = con;
         this.queue = new ConcurrentLinkedQueue<>();
+        this.queueSize = new AtomicInteger();
+        this.coalescer = new RecordCoalescer();
+        this.savedRecords = new AtomicLong();
+        this.failedStatements = new AtomicLong();
         this.running = true;
-        this.reconnectInterval = config.getLong("mysql.reconnect_interval");
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        this.connected = true;
+        this.rateWindowStart = System.nanoTime();
+        this.reconnectInterval = reconnectInterval;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = Math.max(0, flushInterval);
+        this.spillThreshold = Math.max(0, spillThreshold);
+        this.journal = journal;
+    }
+
+    @Nullable
+    private static SaverJournal openJournal(final BetonQuestLogger log, final File file) {
+        try {
+            final SaverJournal opened = new SaverJournal(file.toPath());
+            if (!opened.isEmpty()) {
+                log.info(opened.size() + " records from the saver journal will be saved to the database.");
+            }
+            return opened;
+        } catch (final IOException e) {
+            log.error("Could not open the saver journal, records can not be spilled to disk: " + e.getMessage(), e);
+            return null;
+        }
     }
 
     @Override
     @SuppressFBWarnings("UW_UNCOND_WAIT")
-    @SuppressWarnings("PMD.CognitiveComplexity")
     public void run() {
-        boolean active = false;
         while (true) {
-            while (queue.isEmpty()) {
+            while (queue.isEmpty() && isJournalEmpty()) {
                 if (!running) {
                     return;
                 }
                 synchronized (this) {
                     try {
-                        active = false;
-                        wait();
+                        if (running && queue.isEmpty() && isJournalEmpty()) {
+                            wait();
+                        }
                     } catch (final InterruptedException e) {
                         log.warn("AsyncSaver got interrupted!");
                     }
                 }
             }
-            if (!active) {
-                while (!con.refresh()) {
-                    log.warn("Failed to re-establish connection with the database! Trying again in one second...");
-                    try {
-                        sleep(reconnectInterval);
-                    } catch (final InterruptedException e) {
-                        log.warn("AsyncSaver got interrupted!");
-                    }
+            awaitFlushWindow();
+            if (!connect()) {
+                spill(drainAll());
+                return;
+            }
+            try {
+                if (replayJournal()) {
+                    flush(drain());
+                }
+            } finally {
+                con.close();
+            }
+        }
+    }
+
+    private boolean isJournalEmpty() {
+        return journal == null || journal.isEmpty();
+    }
+
+    @SuppressFBWarnings("WA_NOT_IN_LOOP")
+    private void awaitFlushWindow() {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        synchronized (this) {
+            long remaining = deadline - System.nanoTime();
+            while (running && queueSize.get() < batchSize && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (final InterruptedException e) {
+                    log.warn("AsyncSaver got interrupted!");
+                    return;
                 }
-                active = true;
+                remaining = deadline - System.nanoTime();
             }
-            final Record rec = queue.poll();
-            con.updateSQL(rec.type(), rec.args());
         }
     }
 
+    /**
+     * Connects to the database, retrying every {@link #reconnectInterval} milliseconds.
+     * While waiting, the records are spilled to the journal once there are too many of them.
+     *
+     * @return true if connected, false if the saver was ended before a connection could be established
+     */
+    private boolean connect() {
+        while (!con.refresh()) {
+            connected = false;
+            if (!isRunning()) {
+                return false;
+            }
+            if (spillThreshold > 0 && queueSize.get() > spillThreshold) {
+                spill(drainAll());
+            }
+            log.warn("Failed to re-establish connection with the database! Trying again in " + reconnectInterval + "ms...");
+            awaitReconnect();
+        }
+        connected = true;
+        return true;
+    }
+
+    @SuppressFBWarnings("WA_NOT_IN_LOOP")
+    private void awaitReconnect() {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reconnectInterval);
+        synchronized (this) {
+            long remaining = deadline - System.nanoTime();
+            while (running && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (final InterruptedException e) {
+                    log.warn("AsyncSaver got interrupted!");
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
+    private boolean isRunning() {
+        synchronized (this) {
+            return running;
+        }
+    }
+
+    private List<Record> drain() {
+        final List<Record> batch = new ArrayList<>(Math.min(batchSize, queueSize.get()));
+        while (batch.size() < batchSize) {
+            final QueuedRecord queued = queue.poll();
+            if (queued == null) {
+                break;
+            }
+            queueSize.decrementAndGet();
+            batch.add(queued.rec());
+        }
+        return batch;
+    }
+
+    private List<Record> drainAll() {
+        final List<Record> records = new ArrayList<>(queueSize.get());
+        for (QueuedRecord queued = queue.poll(); queued != null; queued = queue.poll()) {
+            queueSize.decrementAndGet();
+            records.add(queued.rec());
+        }
+        return records;
+    }
+
+    private void spill(final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (journal == null) {
+            log.error("The saver journal is not available, " + records.size() + " records were not saved!");
+            return;
+        }
+        try {
+            journal.append(records);
+            log.warn("Spilled " + records.size() + " records to the saver journal, "
+                    + journal.size() + " records are waiting for the database.");
+        } catch (final IOException e) {
+            log.error("Could not write to the saver journal, " + records.size() + " records were not saved!", e);
+        }
+    }
+
+    /**
+     * Saves the records from the journal, which are older than all records in the queue.
+     *
+     * @return true if the journal is empty now
+     */
+    private boolean replayJournal() {
+        final SaverJournal current = journal;
+        if (current == null || current.isEmpty()) {
+            return true;
+        }
+        final int spilled = current.size();
+        try {
+            final boolean replayed = current.replay(batchSize, records -> {
+                if (!con.refresh()) {
+                    connected = false;
+                    return false;
+                }
+                if (flush(records) > 0 && !con.refresh()) {
+                    connected = false;
+                    return false;
+                }
+                return true;
+            });
+            if (replayed) {
+                log.info("Saved " + spilled + " records from the saver journal to the database.");
+            }
+            return replayed;
+        } catch (final IOException e) {
+            log.error("Could not replay the saver journal: " + e.getMessage(), e);
+            try {
+                log.error("The remaining records of the saver journal were moved to " + current.moveAside());
+            } catch (final IOException moveException) {
+                log.error("Could not move the saver journal aside, records may be saved twice!", moveException);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Saves the records to the database.
+     *
+     * @param batch the records to save in order
+     * @return the number of statements that failed
+     */
+    private int flush(final List<Record> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        final long start = System.nanoTime();
+        if (batch.size() == 1) {
+            final Record rec = batch.get(0);
+            final int failed = con.updateSQL(rec.type(), rec.args()) ? 0 : 1;
+            recordFlush(1, failed);
+            logFlush(1, 1, start);
+            return failed;
+        }
+        final List<Record> coalesced = coalescer.coalesce(batch);
+        final int failed = con.updateBatch(coalesced);
+        recordFlush(batch.size(), failed);
+        logFlush(batch.size(), coalesced.size(), start);
+        return failed;
+    }
+
+    private void recordFlush(final int records, final int failed) {
+        savedRecords.addAndGet(records);
+        failedStatements.addAndGet(failed);
+        synchronized (this) {
+            rateWindowRecords += records;
+            updateRate(System.nanoTime());
+        }
+    }
+
+    private void updateRate(final long now) {
+        final long elapsed = now - rateWindowStart;
+        if (elapsed >= RATE_WINDOW) {
+            recordsPerSecond = (double) rateWindowRecords * TimeUnit.SECONDS.toNanos(1) / elapsed;
+            rateWindowRecords = 0;
+            rateWindowStart = now;
+        }
+    }
+
+    private void logFlush(final int records, final int statements, final long start) {
+        final long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.debug("Flushed " + records + " records as " + statements + " statements in " + duration + "ms, "
+                + queueSize.get() + " records remaining in queue");
+    }
+
+    /**
+     * Gets the number of records waiting to be saved.
+     *
+     * @return the current queue depth
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    @Override
+    public SaverStatistics getStatistics() {
+        final QueuedRecord oldest = queue.peek();
+        final long oldestAge = oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.queuedAt());
+        final double rate;
+        synchronized (this) {
+            updateRate(System.nanoTime());
+            rate = recordsPerSecond;
+        }
+        return new SaverStatistics(queueSize.get(), oldestAge, rate, savedRecords.get(), failedStatements.get(),
+                journal == null ? 0 : journal.size(), connected);
+    }
+
     @Override
     public void add(final Record rec) {
         synchronized (this) {
-            queue.add(rec);
+            queue.add(new QueuedRecord(rec, System.nanoTime()));
+            queueSize.incrementAndGet();
             notifyAll();
         }
     }
 
+    /**
+     * Ends this saver's job and waits until all remaining records are saved,
+     * but at most {@link #SHUTDOWN_TIMEOUT} milliseconds.
+     * If the database is not reachable, the remaining records are written to the journal.
+     */
     @Override
     public void end() {
         synchronized (this) {
             running = false;
             notifyAll();
         }
+        if (currentThread() == this || !isAlive()) {
+            return;
+        }
+        try {
+            join(SHUTDOWN_TIMEOUT);
+        } catch (final InterruptedException e) {
+            log.warn("Interrupted while waiting for the AsyncSaver to finish!", e);
+            currentThread().interrupt();
+        }
+        if (isAlive()) {
+            log.error("The AsyncSaver did not finish in time, " + queueSize.get() + " records were not saved!");
+        }
+    }
+
+    /**
+     * A record waiting in the queue.
+     *
+     * @param rec      the record
+     * @param queuedAt the time in nanoseconds the record was queued
+     */
+    private record QueuedRecord(Record rec, long queuedAt) {
     }
 }
@@ -0,0 +1,278 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool of database connections.
+ * <p>
+ * Idle connections are validated when they are borrowed, unless they were used within the last
+ * {@link #VALIDATION_SKIP_WINDOW} milliseconds. Connections that are held longer than the leak detection threshold
+ * are reported once, together with the stack trace of the code that borrowed them.
+ */
+public class ConnectionPool {
+    /**
+     * Time in milliseconds after its last use in which an idle connection is handed out without validation.
+     */
+    private static final long VALIDATION_SKIP_WINDOW = 500;
+
+    /**
+     * Time in seconds the driver may take to validate a connection.
+     */
+    private static final int VALIDATION_TIMEOUT = 2;
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * Opens new physical connections.
+     */
+    private final ConnectionOpener opener;
+
+    /**
+     * Limits the amount of connections that are open at the same time.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Connections that are open but not in use, the most recently used first.
+     */
+    private final Deque<IdleConnection> idle;
+
+    /**
+     * Connections that are currently borrowed.
+     */
+    private final Map<Connection, Borrow> borrowed;
+
+    /**
+     * Maximum time in milliseconds to wait for a free connection.
+     */
+    private final long connectionTimeout;
+
+    /**
+     * Time in milliseconds after which a borrowed connection is reported as leaked, or zero to disable.
+     */
+    private final long leakDetectionThreshold;
+
+    /**
+     * Whether the pool was closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates a new connection pool.
+     *
+     * @param log                    the logger that will be used for logging
+     * @param opener                 opens new physical connections
+     * @param maxSize                the maximum amount of open connections
+     * @param connectionTimeout      the maximum time in milliseconds to wait for a free connection
+     * @param leakDetectionThreshold the time in milliseconds after which a borrowed connection is reported as leaked,
+     *                               zero disables leak detection
+     */
+    public ConnectionPool(final BetonQuestLogger log, final ConnectionOpener opener, final int maxSize,
+                          final long connectionTimeout, final long leakDetectionThreshold) {
+        this.log = log;
+        this.opener = opener;
+        this.permits = new Semaphore(Math.max(1, maxSize), true);
+        this.idle = new ConcurrentLinkedDeque<>();
+        this.borrowed = new ConcurrentHashMap<>();
+        this.connectionTimeout = connectionTimeout;
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    /**
+     * Borrows a connection from the pool. It must be handed back with {@link #release(Connection)}.
+     *
+     * @return a valid connection
+     * @throws IllegalStateException if no connection could be obtained within the connection timeout
+     */
+    public Connection borrow() {
+        if (closed) {
+            throw new IllegalStateException("The connection pool is closed!");
+        }
+        detectLeaks();
+        try {
+            if (!permits.tryAcquire(connectionTimeout, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + connectionTimeout + "ms waiting for a database connection! "
+                        + borrowed.size() + " connections are in use.");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database connection!", e);
+        }
+        try {
+            final Connection connection = takeIdleOrOpen();
+            final Exception origin = leakDetectionThreshold > 0 ? new Exception("Connection borrowed here") : null;
+            borrowed.put(connection, new Borrow(System.currentTimeMillis(), origin));
+            return connection;
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw new IllegalStateException("Not able to create a database connection!", e);
+        }
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private Connection takeIdleOrOpen() throws SQLException {
+        IdleConnection candidate = idle.pollFirst();
+        while (candidate != null) {
+            if (isUsable(candidate)) {
+                return candidate.connection();
+            }
+            closeQuietly(candidate.connection());
+            candidate = idle.pollFirst();
+        }
+        return opener.open();
+    }
+
+    private boolean isUsable(final IdleConnection candidate) {
+        try {
+            if (candidate.connection().isClosed()) {
+                return false;
+            }
+            if (System.currentTimeMillis() - candidate.lastUsed() < VALIDATION_SKIP_WINDOW) {
+                return true;
+            }
+            return candidate.connection().isValid(VALIDATION_TIMEOUT);
+        } catch (final SQLException e) {
+            log.debug("Discarding broken pooled connection", e);
+            return false;
+        }
+    }
+
+    /**
+     * Hands a borrowed connection back to the pool.
+     *
+     * @param connection the connection to return
+     */
+    public void release(final Connection connection) {
+        if (borrowed.remove(connection) == null) {
+            return;
+        }
+        try {
+            if (closed || connection.isClosed()) {
+                closeQuietly(connection);
+            } else {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                idle.offerFirst(new IdleConnection(connection, System.currentTimeMillis()));
+            }
+        } catch (final SQLException e) {
+            log.debug("Discarding pooled connection that could not be reset", e);
+            closeQuietly(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes a borrowed connection that turned out to be broken and frees its slot in the pool.
+     *
+     * @param connection the broken connection
+     */
+    public void invalidate(final Connection connection) {
+        if (borrowed.remove(connection) != null) {
+            closeQuietly(connection);
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes all idle connections and rejects further borrowing.
+     * Borrowed connections are closed when they are released.
+     */
+    public void close() {
+        closed = true;
+        IdleConnection candidate = idle.pollFirst();
+        while (candidate != null) {
+            closeQuietly(candidate.connection());
+            candidate = idle.pollFirst();
+        }
+        if (!borrowed.isEmpty()) {
+            log.warn("Closing the connection pool while " + borrowed.size() + " connections are still in use!");
+        }
+    }
+
+    private void detectLeaks() {
+        if (leakDetectionThreshold <= 0) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        for (final Borrow borrow : borrowed.values()) {
+            if (now - borrow.since > leakDetectionThreshold && !borrow.reported && borrow.origin != null) {
+                borrow.reported = true;
+                log.warn("A database connection was borrowed " + (now - borrow.since)
+                        + "ms ago and not returned yet, this could be a leak!", borrow.origin);
+            }
+        }
+    }
+
+    private void closeQuietly(final Connection connection) {
+        try {
+            connection.close();
+        } catch (final SQLException e) {
+            log.debug("Failed to close pooled connection", e);
+        }
+    }
+
+    /**
+     * Opens a new physical connection.
+     */
+    @FunctionalInterface
+    public interface ConnectionOpener {
+        /**
+         * Opens a new connection to the database.
+         *
+         * @return the new connection
+         * @throws SQLException if the connection could not be opened
+         */
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * A connection that waits in the pool.
+     *
+     * @param connection the connection
+     * @param lastUsed   the time the connection was released
+     */
+    private record IdleConnection(Connection connection, long lastUsed) {
+    }
+
+    /**
+     * Information about a borrowed connection.
+     */
+    private static final class Borrow {
+        /**
+         * The time the connection was borrowed.
+         */
+        private final long since;
+
+        /**
+         * Captures the stack trace of the borrower, if leak detection is enabled.
+         */
+        @Nullable
+        private final Exception origin;
+
+        /**
+         * Whether the connection was already reported as leaked.
+         */
+        private volatile boolean reported;
+
+        private Borrow(final long since, @Nullable final Exception origin) {
+            this.since = since;
+            this.origin = origin;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.database;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.jetbrains.annotations.Nullable;
@@ -9,12 +8,22 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Objects;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Connects to the database and queries it.
+ * <p>
+ * The connection is borrowed from the {@link Database} on first use and must be handed back with {@link #close()}
+ * once all results have been read.
  */
-public class Connector {
+public class Connector implements AutoCloseable {
+    /**
+     * Time in seconds the driver may take to validate the connection.
+     */
+    private static final int VALIDATION_TIMEOUT = 2;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -31,43 +40,84 @@ public class Connector {
     private final Database database;
 
     /**
-     * Permanently active connection to the database.
+     * Borrowed connection to the database.
      */
     @Nullable
     private Connection connection;
 
     /**
-     * Opens a new connection to the database.
+     * Prepared statements reused by {@link #updateBatch(List)} as long as the connection stays the same.
+     */
+    private final Map<UpdateType, PreparedStatement> statementCache = new EnumMap<>(UpdateType.class);
+
+    /**
+     * Creates a new connector, the connection is borrowed on first use.
      */
     public Connector() {
-        final BetonQuest plugin = BetonQuest.getInstance();
-        this.log = plugin.getLoggerFactory().create(Connector.class);
-        prefix = plugin.getPluginConfig().getString("mysql.prefix", "");
-        database = plugin.getDB();
-        connection = database.getConnection();
+        this(BetonQuest.getInstance().getLoggerFactory().create(Connector.class),
+                BetonQuest.getInstance().getPluginConfig().getString("mysql.prefix", ""), BetonQuest.getInstance().getDB());
     }
 
     /**
-     * This method should be used before any other database operations.
+     * Creates a new connector, the connection is borrowed on first use.
+     *
+     * @param log      the logger that will be used for logging
+     * @param prefix   the table prefix
+     * @param database the database to borrow the connection from
+     */
+    /* default */ Connector(final BetonQuestLogger log, final String prefix, final Database database) {
+        this.log = log;
+        this.prefix = prefix;
+        this.database = database;
+    }
+
+    /**
+     * This method can be used before other database operations to ensure a working connection.
+     * A newly borrowed connection is already validated by the {@link Database}.
      *
      * @return true if the connection is refreshed successfully
      */
-    @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION"})
     public final boolean refresh() {
-        if (connection == null) {
-            connection = database.getConnection();
-        } else {
+        if (connection != null) {
             try {
-                connection.prepareStatement("SELECT 1").executeQuery().close();
+                if (connection.isValid(VALIDATION_TIMEOUT)) {
+                    return true;
+                }
             } catch (final SQLException e) {
-                log.warn("Database connection was lost, reconnecting...", e);
-                database.closeConnection();
-                connection = database.getConnection();
+                log.debug("Could not validate the database connection", e);
             }
+            log.warn("Database connection was lost, reconnecting...");
+            clearStatementCache();
+            database.invalidateConnection(connection);
+            connection = null;
+        }
+        try {
+            connection = database.borrowConnection();
+        } catch (final IllegalStateException e) {
+            log.debug("Could not borrow a database connection", e);
         }
         return connection != null;
     }
 
+    private Connection getOrBorrowConnection() {
+        if (connection == null) {
+            connection = database.borrowConnection();
+        }
+        return connection;
+    }
+
+    /**
+     * Hands the connection back to the {@link Database}.
+     * The connector can be used again afterward, it will then borrow a new connection.
+     */
+    @Override
+    public void close() {
+        if (connection != null) {
+            database.releaseConnection(connection);
+            connection = null;
+        }
+    }
+
     /**
      * Queries the database with the given type and arguments.
      *
@@ -94,8 +144,7 @@ public class Connector {
     public ResultSet querySQL(final QueryType type, final VariableResolver variableResolver) {
         final String sql = type.createSql(prefix);
         try {
-            Objects.requireNonNull(connection);
-            final PreparedStatement statement = connection.prepareStatement(sql);
+            final PreparedStatement statement = getOrBorrowConnection().prepareStatement(sql);
             variableResolver.resolve(statement);
             return statement.executeQuery();
         } catch (final SQLException e) {
@@ -108,17 +157,134 @@ public class Connector {
      *
      * @param type type of the update
      * @param args arguments
+     * @return true if the update was executed, false if it failed
      */
-    public void updateSQL(final UpdateType type, final String... args) {
+    public boolean updateSQL(final UpdateType type, final String... args) {
         final String sql = type.createSql(prefix);
-        Objects.requireNonNull(connection);
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PreparedStatement statement = getOrBorrowConnection().prepareStatement(sql)) {
             for (int i = 0; i < args.length; i++) {
                 statement.setString(i + 1, args[i]);
             }
             statement.executeUpdate();
+            return true;
+        } catch (final SQLException e) {
+            log.error("There was an exception with SQL", e);
+            return false;
+        }
+    }
+
+    /**
+     * Updates the database with all given records inside a single transaction.
+     * Consecutive records of the same {@link UpdateType} are sent as one JDBC batch
+     * using a cached prepared statement, so the order of the records is preserved.
+     * If the transaction fails it is rolled back and the records are executed one by one,
+     * so a single faulty record does not discard the whole batch.
+     * <p>
+     * If the {@link Database} shares its connection between threads, the records are executed one by one
+     * without a transaction, as other threads would otherwise join or roll back with it.
+     *
+     * @param records the records to save in order
+     * @return the number of records that failed
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public int updateBatch(final List<Saver.Record> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        final Connection current = getOrBorrowConnection();
+        if (database.isConnectionShared()) {
+            return updateEach(current, records);
+        }
+        int failed = 0;
+        try {
+            current.setAutoCommit(false);
+            try {
+                UpdateType batchType = null;
+                PreparedStatement statement = null;
+                for (final Saver.Record rec : records) {
+                    if (rec.type() != batchType) {
+                        if (statement != null) {
+                            statement.executeBatch();
+                        }
+                        batchType = rec.type();
+                        statement = getCachedStatement(current, batchType);
+                    }
+                    final String[] args = rec.args();
+                    for (int i = 0; i < args.length; i++) {
+                        statement.setString(i + 1, args[i]);
+                    }
+                    statement.addBatch();
+                }
+                if (statement != null) {
+                    statement.executeBatch();
+                }
+                current.commit();
+            } catch (final SQLException e) {
+                log.warn("Batch update of " + records.size() + " records failed, retrying them one by one", e);
+                current.rollback();
+                clearStatementCache();
+                current.setAutoCommit(true);
+                for (final Saver.Record rec : records) {
+                    if (!updateSQL(rec.type(), rec.args())) {
+                        failed++;
+                    }
+                }
+            } finally {
+                current.setAutoCommit(true);
+            }
         } catch (final SQLException e) {
             log.error("There was an exception with SQL", e);
+            return records.size();
+        }
+        return failed;
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private int updateEach(final Connection current, final List<Saver.Record> records) {
+        int failed = 0;
+        for (final Saver.Record rec : records) {
+            try {
+                final PreparedStatement statement = getCachedStatement(current, rec.type());
+                final String[] args = rec.args();
+                for (int i = 0; i < args.length; i++) {
+                    statement.setString(i + 1, args[i]);
+                }
+                statement.executeUpdate();
+            } catch (final SQLException e) {
+                log.error("There was an exception with SQL", e);
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private PreparedStatement getCachedStatement(final Connection current, final UpdateType type) throws SQLException {
+        final PreparedStatement cached = statementCache.get(type);
+        if (cached != null && !cached.isClosed() && cached.getConnection() == current) {
+            cached.clearBatch();
+            return cached;
+        }
+        if (cached != null) {
+            closeQuietly(cached);
+        }
+        final PreparedStatement statement = current.prepareStatement(type.createSql(prefix));
+        statementCache.put(type, statement);
+        return statement;
+    }
+
+    private void clearStatementCache() {
+        for (final PreparedStatement statement : statementCache.values()) {
+            closeQuietly(statement);
+        }
+        statementCache.clear();
+    }
+
+    private void closeQuietly(final PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException e) {
+            log.debug("Could not close cached statement", e);
         }
     }
 
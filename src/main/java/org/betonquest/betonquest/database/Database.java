@@ -6,8 +6,6 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Set;
 import java.util.SortedMap;
@@ -18,6 +16,11 @@ import java.util.SortedMap;
  */
 @SuppressWarnings("PMD.CommentRequired")
 public abstract class Database {
+    /**
+     * Time in seconds the driver may take to validate a connection.
+     */
+    private static final int VALIDATION_TIMEOUT = 2;
+
     protected final Plugin plugin;
 
     protected final String prefix;
@@ -39,7 +42,7 @@ public abstract class Database {
         this.profileInitialName = plugin.getPluginConfig().getString("profile.initial_name", "default");
     }
 
-    public Connection getConnection() {
+    public synchronized Connection getConnection() {
         try {
             if (con == null || con.isClosed() || isConnectionBroken(con)) {
                 con = openConnection();
@@ -53,17 +56,55 @@ public abstract class Database {
         return con;
     }
 
-    private boolean isConnectionBroken(final Connection connection) throws SQLException {
+    private boolean isConnectionBroken(final Connection connection) {
         try {
-            try (PreparedStatement statement = connection.prepareStatement("SELECT 1");
-                 ResultSet result = statement.executeQuery()) {
-                return !result.next();
-            }
+            return !connection.isValid(VALIDATION_TIMEOUT);
         } catch (final SQLException e) {
             return true;
         }
     }
 
+    /**
+     * Borrows a connection for exclusive use until it is handed back with {@link #releaseConnection(Connection)}.
+     * The default implementation shares the single connection of {@link #getConnection()}.
+     *
+     * @return a valid connection
+     * @throws IllegalStateException if no connection could be obtained
+     */
+    public Connection borrowConnection() {
+        return getConnection();
+    }
+
+    /**
+     * Hands a connection obtained by {@link #borrowConnection()} back.
+     *
+     * @param connection the connection to hand back
+     */
+    public void releaseConnection(final Connection connection) {
+        // the shared connection stays open
+    }
+
+    /**
+     * Discards a connection obtained by {@link #borrowConnection()} that turned out to be broken.
+     * The default implementation keeps the shared connection open, as other threads may still use it.
+     * It is validated and reopened if needed on the next {@link #getConnection()}.
+     *
+     * @param connection the broken connection
+     */
+    public void invalidateConnection(final Connection connection) {
+        // the shared connection is reopened by getConnection if it is really broken
+    }
+
+    /**
+     * Checks if {@link #borrowConnection()} hands out the same connection to all threads.
+     * A shared connection must not be used for transactions, as other threads would join them.
+     *
+     * @return true if the borrowed connection is shared
+     */
+    public boolean isConnectionShared() {
+        return true;
+    }
+
     protected abstract Connection openConnection() throws SQLException;
 
     public void closeConnection() {
@@ -78,19 +119,22 @@ public abstract class Database {
     }
 
     public final void createTables() {
+        final Connection connection = borrowConnection();
         try {
             final SortedMap<MigrationKey, DatabaseUpdate> migrations = getMigrations();
-            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(getConnection());
+            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(connection);
             executedMigrations.forEach(migrations::remove);
 
             while (!migrations.isEmpty()) {
                 final MigrationKey key = migrations.firstKey();
                 final DatabaseUpdate migration = migrations.remove(key);
-                migration.executeUpdate(getConnection());
-                markMigrationExecuted(getConnection(), key);
+                migration.executeUpdate(connection);
+                markMigrationExecuted(connection, key);
             }
         } catch (final SQLException sqlException) {
             log.error("There was an exception with SQL while creating the database tables!", sqlException);
+        } finally {
+            releaseConnection(connection);
         }
     }
 
@@ -39,6 +39,11 @@ public class MySQL extends Database {
 
     private final String hostname;
 
+    /**
+     * Pool of connections handed out by {@link #borrowConnection()}.
+     */
+    private final ConnectionPool pool;
+
     /**
      * Creates a new MySQL instance
      *
@@ -58,6 +63,36 @@ public class MySQL extends Database {
         this.database = database;
         this.user = username;
         this.password = password;
+        this.pool = new ConnectionPool(log, this::openConnection,
+                plugin.getPluginConfig().getInt("mysql.pool.max_size", 5),
+                plugin.getPluginConfig().getLong("mysql.pool.connection_timeout", 5000),
+                plugin.getPluginConfig().getLong("mysql.pool.leak_detection_threshold", 30_000));
+    }
+
+    @Override
+    public Connection borrowConnection() {
+        return pool.borrow();
+    }
+
+    @Override
+    public void releaseConnection(final Connection connection) {
+        pool.release(connection);
+    }
+
+    @Override
+    public void invalidateConnection(final Connection connection) {
+        pool.invalidate(connection);
+    }
+
+    @Override
+    public boolean isConnectionShared() {
+        return false;
+    }
+
+    @Override
+    public void closeConnection() {
+        pool.close();
+        super.closeConnection();
     }
 
     @Override
@@ -109,7 +144,7 @@ public class MySQL extends Database {
 
     @Override
     protected void markMigrationExecuted(final Connection connection, final MigrationKey migrationKey) throws SQLException {
-        try (PreparedStatement statement = getConnection().prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
             statement.setString(1, migrationKey.namespace());
             statement.setInt(2, migrationKey.version());
             statement.executeUpdate();
@@ -32,6 +32,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents an object storing all profile-related data, which can load and save it.
@@ -94,49 +95,36 @@ public class PlayerData implements TagData, PointData {
 
     /**
      * Loads all data for the profile and puts it in appropriate lists.
+     * All tables are read with a single query to keep the load to one database round trip.
      */
     public final void loadAllPlayerData() {
-        try {
-            final Connector con = new Connector();
-
-            try (ResultSet objectiveResults = con.querySQL(QueryType.SELECT_OBJECTIVES, profileID);
-                 ResultSet tagResults = con.querySQL(QueryType.SELECT_TAGS, profileID);
-                 ResultSet journalResults = con.querySQL(QueryType.SELECT_JOURNAL, profileID);
-                 ResultSet pointResults = con.querySQL(QueryType.SELECT_POINTS, profileID);
-                 ResultSet backpackResults = con.querySQL(QueryType.SELECT_BACKPACK, profileID);
-                 ResultSet profileResult = con.querySQL(QueryType.SELECT_PLAYER, profileID)) {
-
-                while (objectiveResults.next()) {
-                    objectives.put(objectiveResults.getString("objective"), objectiveResults.getString("instructions"));
-                }
-
-                while (tagResults.next()) {
-                    tags.add(tagResults.getString("tag"));
-                }
-
-                while (journalResults.next()) {
-                    loadJournalPointer(journalResults.getString("pointer"), journalResults.getTimestamp("date").getTime());
-                }
-
-                while (pointResults.next()) {
-                    points.add(new Point(pointResults.getString("category"), pointResults.getInt("count")));
-                }
-
-                while (backpackResults.next()) {
-                    addItemToBackpack(backpackResults);
+        final long start = System.nanoTime();
+        try (Connector con = new Connector();
+             ResultSet results = con.querySQL(QueryType.SELECT_PROFILE_DATA,
+                     profileID, profileID, profileID, profileID, profileID, profileID)) {
+            boolean playerFound = false;
+            while (results.next()) {
+                switch (results.getString("kind")) {
+                    case "objective" -> objectives.put(results.getString("name"), results.getString("data"));
+                    case "tag" -> tags.add(results.getString("name"));
+                    case "journal" -> loadJournalPointer(results.getString("name"), results.getTimestamp("date").getTime());
+                    case "point" -> points.add(new Point(results.getString("name"), results.getInt("amount")));
+                    case "backpack" -> addItemToBackpack(results.getString("data"), results.getInt("amount"));
+                    case "player" -> {
+                        playerFound = true;
+                        profileLanguage = results.getString("name");
+                        loadActiveConversation(results.getString("data"));
+                    }
+                    default -> log.debug("Unknown profile data kind '" + results.getString("kind") + "'");
                 }
-
-                if (profileResult.next()) {
-                    profileLanguage = profileResult.getString("language");
-                    loadActiveConversation(profileResult);
-                } else {
-                    setupProfile();
-                }
-
-                log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
-                        + " points, " + entries.size() + " journal entries and " + backpack.size()
-                        + " items for " + profile);
             }
+            if (!playerFound) {
+                setupProfile();
+            }
+
+            log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
+                    + " points, " + entries.size() + " journal entries and " + backpack.size()
+                    + " items for " + profile + " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
         } catch (final SQLException e) {
             log.error("There was an exception with SQL", e);
         }
@@ -152,9 +140,7 @@ public class PlayerData implements TagData, PointData {
         }
     }
 
-    private void loadActiveConversation(final ResultSet playerResult) throws SQLException {
-        final String fullInstruction = playerResult.getString("conversation");
-
+    private void loadActiveConversation(@Nullable final String fullInstruction) {
         try {
             final Optional<PlayerConversationState> playerConversationState = PlayerConversationState.fromString(fullInstruction);
             playerConversationState.ifPresent(conversationState -> activeConversation = conversationState);
@@ -173,9 +159,7 @@ public class PlayerData implements TagData, PointData {
                 profileID, BetonQuest.getInstance().getPluginConfig().getString("profile.initial_name", "default")));
     }
 
-    private void addItemToBackpack(final ResultSet backpackResults) throws SQLException {
-        final String serialized = backpackResults.getString("serialized");
-        final int amount = backpackResults.getInt("amount");
+    private void addItemToBackpack(final String serialized, final int amount) {
         final byte[] bytes = Base64.getDecoder().decode(serialized);
         final ItemStack item = ItemStack.deserializeBytes(bytes).asQuantity(amount);
         backpack.add(item);
@@ -197,6 +181,7 @@ public class PlayerData implements TagData, PointData {
             if (!tags.contains(tag)) {
                 tags.add(tag);
                 saver.add(new Record(UpdateType.ADD_TAGS, profileID, tag));
+                invalidateConditions();
                 BetonQuest.getInstance()
                         .callSyncBukkitEvent(new PlayerTagAddEvent(profile, tag));
             }
@@ -209,6 +194,7 @@ public class PlayerData implements TagData, PointData {
             if (tags.contains(tag)) {
                 tags.remove(tag);
                 saver.add(new Record(UpdateType.REMOVE_TAGS, profileID, tag));
+                invalidateConditions();
                 BetonQuest.getInstance()
                         .callSyncBukkitEvent(new PlayerTagRemoveEvent(profile, tag));
             }
@@ -243,6 +229,7 @@ public class PlayerData implements TagData, PointData {
                     saver.add(new Record(UpdateType.ADD_POINTS,
                             profileID, category, String.valueOf(point.getCount() + count)));
                     point.addPoints(count);
+                    invalidateConditions();
                     BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, point.getCount()));
                     return;
                 }
@@ -250,6 +237,7 @@ public class PlayerData implements TagData, PointData {
             // if not then create new point category with given amount of points
             points.add(new Point(category, count));
             saver.add(new Record(UpdateType.ADD_POINTS, profileID, category, String.valueOf(count)));
+            invalidateConditions();
             BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, count));
         }
     }
@@ -261,6 +249,7 @@ public class PlayerData implements TagData, PointData {
             points.removeIf(point -> point.getCategory().equalsIgnoreCase(category));
             points.add(new Point(category, count));
             saver.add(new Record(UpdateType.ADD_POINTS, profileID, category, String.valueOf(count)));
+            invalidateConditions();
             BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, count));
         }
     }
@@ -276,12 +265,21 @@ public class PlayerData implements TagData, PointData {
             }
             if (pointToRemove != null) {
                 points.remove(pointToRemove);
+                invalidateConditions();
                 BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, 0));
             }
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
         }
     }
 
+    /**
+     * Drops the cached condition outcomes of this profile right away,
+     * as the change events are fired one tick later when the data changes off the main thread.
+     */
+    private void invalidateConditions() {
+        BetonQuest.getInstance().getConditionCache().invalidate(profile);
+    }
+
     /**
      * Returns a Journal instance or creates it if it does not exist.
      *
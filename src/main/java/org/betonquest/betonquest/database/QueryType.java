@@ -14,6 +14,17 @@ public enum QueryType {
     SELECT_JOURNAL(prefix -> "SELECT pointer, date FROM " + prefix + "journal WHERE profileID = ?;"),
     SELECT_BACKPACK(prefix -> "SELECT serialized, amount FROM " + prefix + "backpack WHERE profileID = ?;"),
     SELECT_PLAYER(prefix -> "SELECT language, conversation FROM " + prefix + "player WHERE playerID = ?;"),
+    /**
+     * Selects all data of a profile in a single round trip, one row per entry. The {@code kind} column names the
+     * source table, the other columns are {@code name}, {@code data}, {@code amount} and {@code date}.
+     * Takes the profileID six times.
+     */
+    SELECT_PROFILE_DATA(prefix -> "SELECT 'objective' AS kind, objective AS name, instructions AS data, NULL AS amount, NULL AS date FROM " + prefix + "objectives WHERE profileID = ?"
+            + " UNION ALL SELECT 'tag', tag, NULL, NULL, NULL FROM " + prefix + "tags WHERE profileID = ?"
+            + " UNION ALL SELECT 'journal', pointer, NULL, NULL, date FROM " + prefix + "journal WHERE profileID = ?"
+            + " UNION ALL SELECT 'point', category, NULL, count, NULL FROM " + prefix + "points WHERE profileID = ?"
+            + " UNION ALL SELECT 'backpack', NULL, serialized, amount, NULL FROM " + prefix + "backpack WHERE profileID = ?"
+            + " UNION ALL SELECT 'player', language, conversation, NULL, NULL FROM " + prefix + "player WHERE playerID = ?;"),
 
     SELECT_PLAYERS_TAGS(prefix -> "SELECT profileID FROM " + prefix + "tags GROUP BY profileID;"),
     SELECT_PLAYERS_JOURNAL(prefix -> "SELECT profileID FROM " + prefix + "journal GROUP BY profileID;"),
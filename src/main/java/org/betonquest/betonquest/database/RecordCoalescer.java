@@ -0,0 +1,173 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merges records that write the same row within one flush window into a single record holding the final state.
+ * <p>
+ * Points and objectives are stored by first removing the old row and then adding the new one.
+ * When a row is written multiple times only the last state matters, so all writes to the same
+ * (table, profileID, key) are replaced by one {@link UpdateType#REPLACE_POINTS upsert} or one removal.
+ * Records of other types that may touch the coalesced tables act as barriers:
+ * all pending rows are emitted before them to keep the original order of effects.
+ */
+final class RecordCoalescer {
+    /**
+     * Record types that never touch the coalesced tables and can therefore be passed through without a barrier.
+     */
+    private static final Set<UpdateType> INDEPENDENT = EnumSet.of(
+            UpdateType.ADD_TAGS, UpdateType.REMOVE_TAGS,
+            UpdateType.ADD_GLOBAL_TAGS, UpdateType.REMOVE_GLOBAL_TAGS,
+            UpdateType.ADD_JOURNAL, UpdateType.REMOVE_JOURNAL,
+            UpdateType.ADD_BACKPACK, UpdateType.DELETE_BACKPACK,
+            UpdateType.UPDATE_CONVERSATION, UpdateType.UPDATE_PLAYER_LANGUAGE, UpdateType.UPDATE_PROFILE_NAME);
+
+    /**
+     * Lookup from a coalescable record type to its table.
+     */
+    private static final Map<UpdateType, Table> TABLES = new EnumMap<>(UpdateType.class);
+
+    static {
+        for (final Table table : Table.values()) {
+            TABLES.put(table.remove, table);
+            TABLES.put(table.add, table);
+        }
+    }
+
+    /**
+     * Empty constructor.
+     */
+    RecordCoalescer() {
+    }
+
+    /**
+     * Coalesces the records of one flush window.
+     *
+     * @param records the records in the order they were queued
+     * @return the records to execute, in an order with the same effect
+     */
+    List<Record> coalesce(final List<Record> records) {
+        final List<Record> result = new ArrayList<>(records.size());
+        final Map<RowKey, PendingRow> pending = new LinkedHashMap<>();
+        for (final Record rec : records) {
+            final Table table = TABLES.get(rec.type());
+            if (table == null) {
+                if (!INDEPENDENT.contains(rec.type())) {
+                    emit(pending, result);
+                }
+                result.add(rec);
+                continue;
+            }
+            final RowKey key = new RowKey(table, Arrays.asList(rec.args()).subList(0, table.keyArgs));
+            final PendingRow row = pending.get(key);
+            if (row == null) {
+                pending.put(key, new PendingRow(rec));
+            } else {
+                row.update(rec);
+            }
+        }
+        emit(pending, result);
+        return result;
+    }
+
+    private void emit(final Map<RowKey, PendingRow> pending, final List<Record> result) {
+        for (final Map.Entry<RowKey, PendingRow> entry : pending.entrySet()) {
+            result.add(entry.getValue().toRecord(entry.getKey().table()));
+        }
+        pending.clear();
+    }
+
+    /**
+     * The tables whose rows are coalesced.
+     */
+    private enum Table {
+        /**
+         * Objectives of a profile, keyed by profileID and objectiveID.
+         */
+        OBJECTIVES(UpdateType.REMOVE_OBJECTIVES, UpdateType.ADD_OBJECTIVES, UpdateType.REPLACE_OBJECTIVES, 2),
+        /**
+         * Points of a profile, keyed by profileID and category.
+         */
+        POINTS(UpdateType.REMOVE_POINTS, UpdateType.ADD_POINTS, UpdateType.REPLACE_POINTS, 2),
+        /**
+         * Global points, keyed by category.
+         */
+        GLOBAL_POINTS(UpdateType.REMOVE_GLOBAL_POINTS, UpdateType.ADD_GLOBAL_POINTS, UpdateType.REPLACE_GLOBAL_POINTS, 1);
+
+        /**
+         * Type that removes a row.
+         */
+        private final UpdateType remove;
+
+        /**
+         * Type that inserts a row.
+         */
+        private final UpdateType add;
+
+        /**
+         * Type that inserts or overwrites a row.
+         */
+        private final UpdateType replace;
+
+        /**
+         * Amount of leading arguments that identify a row.
+         */
+        private final int keyArgs;
+
+        Table(final UpdateType remove, final UpdateType add, final UpdateType replace, final int keyArgs) {
+            this.remove = remove;
+            this.add = add;
+            this.replace = replace;
+            this.keyArgs = keyArgs;
+        }
+    }
+
+    /**
+     * Identifies a single row.
+     *
+     * @param table the table of the row
+     * @param key   the arguments identifying the row
+     */
+    private record RowKey(Table table, List<String> key) {
+    }
+
+    /**
+     * The final state of a row within the flush window.
+     */
+    private static final class PendingRow {
+        /**
+         * The latest record written to the row.
+         */
+        private Record last;
+
+        /**
+         * Whether more than one record was written to the row.
+         */
+        private boolean merged;
+
+        private PendingRow(final Record first) {
+            this.last = first;
+        }
+
+        private void update(final Record rec) {
+            last = rec;
+            merged = true;
+        }
+
+        private Record toRecord(final Table table) {
+            if (!merged || last.type() == table.remove) {
+                return last;
+            }
+            return new Record(table.replace, last.args());
+        }
+    }
+}
@@ -21,6 +21,13 @@ public interface Saver {
      */
     void end();
 
+    /**
+     * Gets a snapshot of the saver's state, like the number of waiting records and failed statements.
+     *
+     * @return the current statistics
+     */
+    SaverStatistics getStatistics();
+
     /**
      * Holds the data and the method of saving them to the database.
      */
@@ -0,0 +1,365 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only file holding records that could not be saved to the database yet.
+ * <p>
+ * Each record is stored as one line: the {@link UpdateType} followed by the tab separated arguments.
+ * Backslashes, tabs and line breaks in the arguments are escaped, {@code null} arguments are stored as {@code \N}.
+ * The records are replayed in the order they were appended.
+ * While replaying, the number of records already saved is kept in an offset file next to the journal,
+ * so records are not saved twice if the server stops during the replay.
+ */
+final class SaverJournal {
+    /**
+     * Separator between the type and the arguments of a record.
+     */
+    private static final char SEPARATOR = '\t';
+
+    /**
+     * Escape character.
+     */
+    private static final char ESCAPE = '\\';
+
+    /**
+     * Marker for a {@code null} argument.
+     */
+    private static final String NULL = "\\N";
+
+    /**
+     * The journal file.
+     */
+    private final Path file;
+
+    /**
+     * The file holding the number of records at the start of the journal that were already replayed.
+     */
+    private final Path offsetFile;
+
+    /**
+     * The number of records in the journal.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile int size;
+
+    /**
+     * Opens the journal, counting the records left from a previous run.
+     *
+     * @param file the journal file
+     * @throws IOException if the existing journal could not be read
+     */
+    /* default */ SaverJournal(final Path file) throws IOException {
+        this.file = file;
+        this.offsetFile = file.resolveSibling(file.getFileName() + ".offset");
+        if (!Files.exists(file)) {
+            Files.deleteIfExists(offsetFile);
+        } else {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                int lines = 0;
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (!line.isEmpty()) {
+                        lines++;
+                    }
+                }
+                this.size = (int) Math.max(0, lines - readOffset());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of records in the journal.
+     *
+     * @return the number of records waiting to be replayed
+     */
+    /* default */ int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the journal holds no records.
+     *
+     * @return true if there is nothing to replay
+     */
+    /* default */ boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends records to the end of the journal and forces them to disk.
+     *
+     * @param records the records to append in order
+     * @throws IOException if the records could not be written
+     */
+    /* default */ void append(final List<Record> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        final StringBuilder lines = new StringBuilder();
+        for (final Record rec : records) {
+            lines.append(encode(rec)).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        size += records.size();
+    }
+
+    /**
+     * Replays the records in batches.
+     * If the writer stops the replay, the records that were not written yet stay in the journal.
+     *
+     * @param batchSize the maximum amount of records passed to the writer at once
+     * @param writer    the writer saving the records
+     * @return true if all records were replayed and the journal is empty
+     * @throws IOException if the journal could not be read or updated
+     */
+    /* default */ boolean replay(final int batchSize, final BatchWriter writer) throws IOException {
+        if (isEmpty()) {
+            return true;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long replayed = readOffset();
+            skipRecords(reader, replayed);
+            final List<Record> batch = new ArrayList<>(batchSize);
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                batch.add(decode(line));
+                if (batch.size() == batchSize) {
+                    if (!writeBatch(batch, writer)) {
+                        keepRemaining(batch, reader);
+                        return false;
+                    }
+                    replayed += batchSize;
+                    writeOffset(replayed);
+                }
+            }
+            if (!batch.isEmpty() && !writeBatch(batch, writer)) {
+                keepRemaining(batch, reader);
+                return false;
+            }
+        }
+        Files.deleteIfExists(offsetFile);
+        Files.deleteIfExists(file);
+        size = 0;
+        return true;
+    }
+
+    private static void skipRecords(final BufferedReader reader, final long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count) {
+            final String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            if (!line.isEmpty()) {
+                skipped++;
+            }
+        }
+    }
+
+    private long readOffset() throws IOException {
+        if (!Files.exists(offsetFile)) {
+            return 0;
+        }
+        final String content = Files.readString(offsetFile, StandardCharsets.UTF_8).trim();
+        try {
+            return content.isEmpty() ? 0 : Long.parseLong(content);
+        } catch (final NumberFormatException e) {
+            throw new IOException("Invalid saver journal offset: " + content, e);
+        }
+    }
+
+    private void writeOffset(final long replayed) throws IOException {
+        final Path temp = Files.createTempFile(offsetFile.toAbsolutePath().getParent(), offsetFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(Long.toString(replayed).getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            moveReplacing(temp, offsetFile);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void moveReplacing(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves the journal to a new file, so it is no longer replayed.
+     * Used if the journal can not be read, to let the saver continue with newer records.
+     *
+     * @return the file the journal was moved to
+     * @throws IOException if the journal could not be moved
+     */
+    /* default */ Path moveAside() throws IOException {
+        final Path target = file.resolveSibling(file.getFileName() + "." + System.currentTimeMillis() + ".failed");
+        if (Files.exists(offsetFile)) {
+            Files.move(offsetFile, target.resolveSibling(target.getFileName() + ".offset"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        size = 0;
+        return target;
+    }
+
+    private boolean writeBatch(final List<Record> batch, final BatchWriter writer) {
+        if (!writer.write(List.copyOf(batch))) {
+            return false;
+        }
+        size -= batch.size();
+        batch.clear();
+        return true;
+    }
+
+    private void keepRemaining(final List<Record> pending, final BufferedReader reader) throws IOException {
+        final Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 OutputStream stream = Channels.newOutputStream(channel);
+                 BufferedWriter out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+                for (final Record rec : pending) {
+                    out.write(encode(rec));
+                    out.write('\n');
+                }
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (!line.isEmpty()) {
+                        out.write(line);
+                        out.write('\n');
+                    }
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.deleteIfExists(offsetFile);
+            moveReplacing(temp, file);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Encodes a record as a single line.
+     *
+     * @param rec the record to encode
+     * @return the line without line break
+     */
+    /* default */ static String encode(final Record rec) {
+        final StringBuilder line = new StringBuilder(rec.type().name());
+        for (final String arg : rec.args()) {
+            line.append(SEPARATOR);
+            if (arg == null) {
+                line.append(NULL);
+                continue;
+            }
+            for (int i = 0; i < arg.length(); i++) {
+                final char chr = arg.charAt(i);
+                switch (chr) {
+                    case ESCAPE -> line.append(ESCAPE).append(ESCAPE);
+                    case SEPARATOR -> line.append(ESCAPE).append('t');
+                    case '\n' -> line.append(ESCAPE).append('n');
+                    case '\r' -> line.append(ESCAPE).append('r');
+                    default -> line.append(chr);
+                }
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Decodes a line created by {@link #encode(Record)}.
+     *
+     * @param line the line to decode
+     * @return the decoded record
+     * @throws IOException if the line is not a valid record
+     */
+    /* default */ static Record decode(final String line) throws IOException {
+        final String[] parts = line.split(String.valueOf(SEPARATOR), -1);
+        final UpdateType type;
+        try {
+            type = UpdateType.valueOf(parts[0]);
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Invalid record type in saver journal: " + parts[0], e);
+        }
+        final String[] args = new String[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            args[i - 1] = unescape(parts[i]);
+        }
+        return new Record(type, args);
+    }
+
+    @Nullable
+    private static String unescape(final String part) throws IOException {
+        if (NULL.equals(part)) {
+            return null;
+        }
+        if (part.indexOf(ESCAPE) < 0) {
+            return part;
+        }
+        final StringBuilder arg = new StringBuilder(part.length());
+        for (int i = 0; i < part.length(); i++) {
+            final char chr = part.charAt(i);
+            if (chr != ESCAPE) {
+                arg.append(chr);
+                continue;
+            }
+            if (++i == part.length()) {
+                throw new IOException("Invalid escape sequence in saver journal");
+            }
+            switch (part.charAt(i)) {
+                case 't' -> arg.append(SEPARATOR);
+                case 'n' -> arg.append('\n');
+                case 'r' -> arg.append('\r');
+                default -> arg.append(part.charAt(i));
+            }
+        }
+        return arg.toString();
+    }
+
+    /**
+     * Saves a batch of replayed records.
+     */
+    @FunctionalInterface
+    /* default */ interface BatchWriter {
+        /**
+         * Saves the records.
+         *
+         * @param records the records to save in order
+         * @return true if the records were saved, false to stop the replay and keep the records
+         */
+        boolean write(List<Record> records);
+    }
+}
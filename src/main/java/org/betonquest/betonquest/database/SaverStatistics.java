@@ -0,0 +1,16 @@
+package org.betonquest.betonquest.database;
+
+/**
+ * A snapshot of the state of a {@link Saver}.
+ *
+ * @param queueSize        the number of records waiting in memory to be saved
+ * @param oldestRecordAge  the time in milliseconds the oldest waiting record is queued, zero if the queue is empty
+ * @param recordsPerSecond the number of records saved per second recently
+ * @param savedRecords     the total number of records saved
+ * @param failedStatements the total number of statements that failed
+ * @param journalSize      the number of records spilled to the journal file that still have to be replayed
+ * @param connected        whether the last connection attempt to the database succeeded
+ */
+public record SaverStatistics(int queueSize, long oldestRecordAge, double recordsPerSecond, long savedRecords,
+                              long failedStatements, int journalSize, boolean connected) {
+}
@@ -84,6 +84,21 @@ public enum UpdateType {
      * Removes single player profile from the database. ProfileID.
      */
     REMOVE_PLAYER_PROFILE(prefix -> "DELETE FROM " + prefix + "player_profile WHERE profileID = ?;"),
+    /**
+     * Inserts or overwrites the single objective in the database. ProfileID,
+     * objectiveID, instruction.
+     */
+    REPLACE_OBJECTIVES(prefix -> "REPLACE INTO " + prefix + "objectives (profileID, objective, instructions) VALUES (?, ?, ?);"),
+    /**
+     * Inserts or overwrites single point category in the database. ProfileID,
+     * category, amount.
+     */
+    REPLACE_POINTS(prefix -> "REPLACE INTO " + prefix + "points (profileID, category, count) VALUES (?, ?, ?);"),
+    /**
+     * Inserts or overwrites single global point category in the database.
+     * Category, amount.
+     */
+    REPLACE_GLOBAL_POINTS(prefix -> "REPLACE INTO " + prefix + "global_points (category, count) VALUES (?, ?);"),
 
     DELETE_OBJECTIVES(prefix -> "DELETE FROM " + prefix + "objectives WHERE profileID = ?;"),
     DELETE_TAGS(prefix -> "DELETE FROM " + prefix + "tags WHERE profileID = ?;"),
@@ -25,10 +25,12 @@ import org.betonquest.betonquest.quest.event.IngameNotificationSender;
 import org.betonquest.betonquest.quest.event.NotificationLevel;
 import org.betonquest.betonquest.util.Utils;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BookMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.SimpleDateFormat;
@@ -41,7 +43,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents player's journal.
@@ -53,13 +57,44 @@ public class Journal {
      */
     private static final BetonQuestLogger LOG = BetonQuest.getInstance().getLoggerFactory().create(Journal.class);
 
+    /**
+     * Key of the marker stamped on generated journals.
+     */
+    private static final NamespacedKey JOURNAL_KEY = Objects.requireNonNull(NamespacedKey.fromString("betonquest:journal"));
+
     private final PluginMessage pluginMessage;
 
     private final Profile profile;
 
     private final List<Pointer> pointers;
 
-    private final List<String> texts = new ArrayList<>();
+    private final List<RenderedEntry> texts = new ArrayList<>();
+
+    /**
+     * Rendered entries of the last generation, reused while the text of an entry stays the same.
+     */
+    private Map<Pointer, RenderedEntry> renderedEntries = new HashMap<>();
+
+    /**
+     * The page layout the entries were rendered with, to render all entries again when it changes.
+     */
+    @Nullable
+    private String renderedLayout;
+
+    /**
+     * The slot the journal was last found in, checked first before searching the whole inventory.
+     */
+    private int journalSlot = -1;
+
+    /**
+     * Whether an update is already scheduled.
+     */
+    private final AtomicBoolean updatePending = new AtomicBoolean();
+
+    /**
+     * The time in milliseconds the book was last rebuilt by an update.
+     */
+    private long lastUpdate;
 
     private final ConfigAccessor config;
 
@@ -87,26 +122,55 @@ public class Journal {
 
     /**
      * Checks if the item is the journal.
+     * <p>
+     * Journals are recognized by their marker.
+     * Journals generated before the marker existed are recognized by their title and lore.
      *
      * @param onlineProfile the {@link OnlineProfile} of the player
      * @param item          ItemStack to check against being the journal
      * @return true if the ItemStack is the journal, false otherwise
      */
     public static boolean isJournal(final OnlineProfile onlineProfile, @Nullable final ItemStack item) {
-        if (item == null) {
+        if (item == null || item.getType() != Material.WRITTEN_BOOK || !item.hasItemMeta()) {
+            return false;
+        }
+        if (!(item.getItemMeta() instanceof final BookMeta bookMeta)) {
+            return false;
+        }
+        return bookMeta.getPersistentDataContainer().has(JOURNAL_KEY, PersistentDataType.BYTE)
+                || isLegacyJournal(onlineProfile, bookMeta);
+    }
+
+    /**
+     * Stamps the journal marker on a journal that is only recognized by its title and lore.
+     *
+     * @param onlineProfile the {@link OnlineProfile} of the player
+     * @param item          ItemStack to migrate
+     * @return true if the ItemStack was changed, false if it is no journal or already marked
+     */
+    public static boolean migrateJournal(final OnlineProfile onlineProfile, @Nullable final ItemStack item) {
+        if (item == null || item.getType() != Material.WRITTEN_BOOK || !item.hasItemMeta()) {
             return false;
         }
+        if (!(item.getItemMeta() instanceof final BookMeta bookMeta)
+                || bookMeta.getPersistentDataContainer().has(JOURNAL_KEY, PersistentDataType.BYTE)
+                || !isLegacyJournal(onlineProfile, bookMeta)) {
+            return false;
+        }
+        bookMeta.getPersistentDataContainer().set(JOURNAL_KEY, PersistentDataType.BYTE, (byte) 1);
+        item.setItemMeta(bookMeta);
+        return true;
+    }
+
+    private static boolean isLegacyJournal(final OnlineProfile onlineProfile, final BookMeta bookMeta) {
         try {
-            if (!(item.getItemMeta() instanceof final BookMeta bookMeta)) {
-                return false;
-            }
             final Component title = bookMeta.title();
             final List<Component> lore = bookMeta.lore();
             if (title == null || lore == null) {
                 return false;
             }
             final Component journalTitle = BetonQuest.getInstance().getPluginMessage().getMessage(onlineProfile, "journal_title");
-            return title.contains(journalTitle, Utils.COMPONENT_BI_PREDICATE) && Objects.equals(item.getItemMeta().getLore(), getJournalLore(onlineProfile));
+            return title.contains(journalTitle, Utils.COMPONENT_BI_PREDICATE) && Objects.equals(bookMeta.getLore(), getJournalLore(onlineProfile));
         } catch (final QuestException e) {
             LOG.warn("Failed to check if the journal's title is correct: " + e.getMessage(), e);
             return false;
@@ -154,6 +218,7 @@ public class Journal {
         final BetonQuest betonQuest = BetonQuest.getInstance();
         betonQuest.callSyncBukkitEvent(new PlayerJournalAddEvent(profile, this, pointer));
         pointers.add(pointer);
+        betonQuest.getConditionCache().invalidate(profile);
         // SQLite doesn't accept formatted date and MySQL doesn't accept numeric timestamp
         final String date = betonQuest.isMySQLUsed()
                 ? new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.ROOT).format(new Date(pointer.timestamp()))
@@ -178,6 +243,7 @@ public class Journal {
                 betonQuest.getSaver().add(new Record(UpdateType.REMOVE_JOURNAL, profile.getProfileUUID().toString(),
                         pointer.pointer().getFullID(), date));
                 pointers.remove(pointer);
+                betonQuest.getConditionCache().invalidate(profile);
                 break;
             }
         }
@@ -189,25 +255,29 @@ public class Journal {
      * @return list of Strings - texts for every journal entry
      */
     public List<String> getText() {
-        final List<String> list;
+        final List<RenderedEntry> list;
         if (Boolean.parseBoolean(config.getString("journal.format.reversed_order"))) {
             list = Lists.reverse(texts);
         } else {
-            list = new ArrayList<>(texts);
+            list = texts;
         }
         final List<String> pagesList = new ArrayList<>();
-        for (final String entry : list) {
-            pagesList.addAll(Utils.pagesFromString(entry));
+        for (final RenderedEntry entry : list) {
+            pagesList.addAll(entry.pages());
         }
         return pagesList;
     }
 
     /**
      * Generates texts for every pointer and places them inside a List.
+     * Entries whose text did not change since the last generation keep their pages.
      */
     public void generateTexts() {
         texts.clear();
         mainPage = generateMainPage();
+        final String layout = config.getInt("journal.format.chars_per_line") + ":" + config.getInt("journal.format.lines_per_page");
+        final Map<Pointer, RenderedEntry> previous = layout.equals(renderedLayout) ? renderedEntries : Map.of();
+        final Map<Pointer, RenderedEntry> current = new HashMap<>();
         final boolean displayDatePrefix = "false".equalsIgnoreCase(config.getString("journal.format.hide_date"));
         final FeatureAPI featureAPI = BetonQuest.getInstance().getFeatureAPI();
         for (final Pointer pointer : pointers) {
@@ -230,8 +300,16 @@ public class Journal {
                 text = "error";
             }
 
-            texts.add(datePrefix + "§" + config.getString("journal.format.color.text") + Utils.format(text));
+            final String fullText = datePrefix + "§" + config.getString("journal.format.color.text") + Utils.format(text);
+            RenderedEntry rendered = previous.get(pointer);
+            if (rendered == null || !rendered.text().equals(fullText)) {
+                rendered = new RenderedEntry(fullText, Utils.pagesFromString(fullText));
+            }
+            current.put(pointer, rendered);
+            texts.add(rendered);
         }
+        renderedEntries = current;
+        renderedLayout = layout;
     }
 
     /**
@@ -300,6 +378,7 @@ public class Journal {
      */
     public void clear() {
         texts.clear();
+        renderedEntries = new HashMap<>();
         pointers.clear();
     }
 
@@ -323,6 +402,7 @@ public class Journal {
             } else {
                 final ItemStack oldItem = inventory.getItem(targetSlot);
                 inventory.setItem(targetSlot, item);
+                journalSlot = targetSlot;
                 if (oldItem != null) {
                     inventory.addItem(oldItem);
                 }
@@ -356,6 +436,7 @@ public class Journal {
         meta.setAuthor(profile.getPlayer().getName());
         meta.setCustomModelData(config.getInt("journal.custom_model_data"));
         meta.setLore(getJournalLore(profile));
+        meta.getPersistentDataContainer().set(JOURNAL_KEY, PersistentDataType.BYTE, (byte) 1);
 
         // add main page and generate pages from texts
         final List<String> finalList = new ArrayList<>();
@@ -398,12 +479,68 @@ public class Journal {
     }
 
     /**
-     * Updates journal by removing it and adding it again.
+     * Updates the journal in the player's inventory, if they have one.
+     * <p>
+     * Updates are merged, so the book is rebuilt at most once per {@code journal.update_interval} ticks.
      */
     public void update() {
-        if (hasJournal(profile.getOnlineProfile().get())) {
+        final long interval = config.getLong("journal.update_interval", 10);
+        final BetonQuest plugin = BetonQuest.getInstance();
+        if (interval <= 0 || !plugin.isEnabled()) {
+            updateNow();
+            return;
+        }
+        if (!updatePending.compareAndSet(false, true)) {
+            return;
+        }
+        final long delay = Math.max(0, (lastUpdate + interval * 50 - System.currentTimeMillis()) / 50);
+        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            updatePending.set(false);
+            updateNow();
+        }, delay);
+    }
+
+    private void updateNow() {
+        final Optional<OnlineProfile> onlineProfile = profile.getOnlineProfile();
+        if (onlineProfile.isEmpty()) {
+            return;
+        }
+        final Inventory inventory = onlineProfile.get().getPlayer().getInventory();
+        final int slot = findJournalSlot(onlineProfile.get(), inventory);
+        if (slot < 0) {
+            return;
+        }
+        lastUpdate = System.currentTimeMillis();
+        final int defaultSlot = config.getInt("journal.default_slot");
+        if (config.getBoolean("journal.lock_default_slot") && defaultSlot >= 0 && slot != defaultSlot) {
             addToInv();
+            return;
+        }
+        generateTexts();
+        final ItemStack item;
+        try {
+            item = getAsItem();
+        } catch (final QuestException e) {
+            LOG.warn("Failed to get journal as item: " + e.getMessage(), e);
+            return;
+        }
+        if (!item.equals(inventory.getItem(slot))) {
+            inventory.setItem(slot, item);
+        }
+    }
+
+    private int findJournalSlot(final OnlineProfile onlineProfile, final Inventory inventory) {
+        if (journalSlot >= 0 && journalSlot < inventory.getSize() && isJournal(onlineProfile, inventory.getItem(journalSlot))) {
+            return journalSlot;
+        }
+        journalSlot = -1;
+        for (int i = 0; i < inventory.getSize(); i++) {
+            if (isJournal(onlineProfile, inventory.getItem(i))) {
+                journalSlot = i;
+                break;
+            }
         }
+        return journalSlot;
     }
 
     /**
@@ -412,15 +549,22 @@ public class Journal {
      * @return the slot from which the journal was removed
      */
     public int removeFromInv() {
-        // loop all items and check if any of them is a journal
         final OnlineProfile onlineProfile = profile.getOnlineProfile().get();
         final Inventory inventory = onlineProfile.getPlayer().getInventory();
-        for (int i = 0; i < inventory.getSize(); i++) {
-            if (isJournal(onlineProfile, inventory.getItem(i))) {
-                inventory.setItem(i, new ItemStack(Material.AIR));
-                return i;
-            }
+        final int slot = findJournalSlot(onlineProfile, inventory);
+        if (slot >= 0) {
+            inventory.setItem(slot, new ItemStack(Material.AIR));
+            journalSlot = -1;
         }
-        return -1;
+        return slot;
+    }
+
+    /**
+     * The text of a journal entry and the pages it was split into.
+     *
+     * @param text  the formatted text of the entry
+     * @param pages the pages of the text
+     */
+    private record RenderedEntry(String text, List<String> pages) {
     }
 }
@@ -26,6 +26,19 @@ public class ConditionID extends ID {
         this.isInverted = !identifier.isEmpty() && identifier.charAt(0) == '!';
     }
 
+    /**
+     * Gets the shared ConditionID for the identifier, creating it only when it is not interned yet.
+     *
+     * @param pack       the package the identifier is used in
+     * @param identifier the complete identifier of the condition, inclusive exclamation mark for negating
+     * @return the interned ConditionID
+     * @throws QuestException if there is no such condition
+     * @see IDCache
+     */
+    public static ConditionID of(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
+        return IDCache.get(ConditionID.class, pack, identifier, ConditionID::new);
+    }
+
     private static String removeExclamationMark(final String identifier) {
         if (!identifier.isEmpty() && identifier.charAt(0) == '!') {
             return identifier.substring(1);
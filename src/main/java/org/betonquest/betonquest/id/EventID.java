@@ -19,4 +19,17 @@ public class EventID extends ID {
     public EventID(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
         super(pack, identifier, "events", "Event");
     }
+
+    /**
+     * Gets the shared EventID for the identifier, creating it only when it is not interned yet.
+     *
+     * @param pack       the package the identifier is used in
+     * @param identifier the complete identifier of the event
+     * @return the interned EventID
+     * @throws QuestException if there is no such event
+     * @see IDCache
+     */
+    public static EventID of(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
+        return IDCache.get(EventID.class, pack, identifier, EventID::new);
+    }
 }
@@ -36,6 +36,11 @@ public abstract class ID {
     @Nullable
     protected Instruction instruction;
 
+    /**
+     * The hash code, computed on first use as interned IDs are used as keys many times.
+     */
+    private int hash;
+
     /**
      * Creates a new ID. Handles relative and absolute paths and edge cases with special IDs like variables.
      *
@@ -234,6 +239,11 @@ public abstract class ID {
 
     @Override
     public int hashCode() {
-        return Objects.hash(identifier, pack.getQuestPath());
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hash(identifier, pack.getQuestPath());
+            hash = result;
+        }
+        return result;
     }
 }
@@ -0,0 +1,98 @@
+package org.betonquest.betonquest.id;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns IDs by their type, the package instance they are used in and their raw identifier.
+ * <p>
+ * IDs are resolved and their instruction is tokenized only once, so IDs created at runtime
+ * skip the config access and parsing. As the key is the package instance, IDs interned for the packages
+ * of a previous load are never handed out for the reloaded packages. The cache has to be cleared after every reload
+ * to release the IDs of the previous packages.
+ * <p>
+ * The instruction of an interned ID is shared, so it must be copied before consuming its arguments.
+ */
+public final class IDCache {
+    /**
+     * The interned IDs.
+     */
+    private static final Map<Key, ID> CACHE = new ConcurrentHashMap<>();
+
+    private IDCache() {
+    }
+
+    /**
+     * Gets the interned ID or creates and interns it.
+     * Identifiers that cannot be parsed are not cached.
+     *
+     * @param type       the class of the ID
+     * @param pack       the package the identifier is used in
+     * @param identifier the raw identifier
+     * @param factory    the factory to create the ID if it is not interned yet
+     * @param <T>        the type of the ID
+     * @return the interned ID
+     * @throws QuestException if the ID could not be created
+     */
+    public static <T extends ID> T get(final Class<T> type, @Nullable final QuestPackage pack, final String identifier,
+                                       final IDFactory<T> factory) throws QuestException {
+        final Key key = new Key(type, pack, identifier);
+        final ID cached = CACHE.get(key);
+        if (cached != null) {
+            return type.cast(cached);
+        }
+        final T created = factory.create(pack, identifier);
+        final ID previous = CACHE.putIfAbsent(key, created);
+        return previous == null ? created : type.cast(previous);
+    }
+
+    /**
+     * Removes all interned IDs.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Creates a new ID.
+     *
+     * @param <T> the type of the ID
+     */
+    @FunctionalInterface
+    public interface IDFactory<T extends ID> {
+        /**
+         * Creates a new ID.
+         *
+         * @param pack       the package the identifier is used in
+         * @param identifier the raw identifier
+         * @return the new ID
+         * @throws QuestException if the ID could not be created
+         */
+        T create(@Nullable QuestPackage pack, String identifier) throws QuestException;
+    }
+
+    /**
+     * The key of an interned ID.
+     *
+     * @param type       the class of the ID
+     * @param pack       the package the identifier is used in, compared by identity
+     * @param identifier the raw identifier
+     */
+    private record Key(Class<?> type, @Nullable QuestPackage pack, String identifier) {
+        @Override
+        public boolean equals(@Nullable final Object obj) {
+            return obj instanceof final Key other && type == other.type && pack == other.pack
+                    && identifier.equals(other.identifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, System.identityHashCode(pack), identifier);
+        }
+    }
+}
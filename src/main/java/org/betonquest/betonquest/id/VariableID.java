@@ -26,4 +26,17 @@ public class VariableID extends ID {
         super.identifier = "%" + super.identifier + "%";
         super.instruction = new VariableInstruction(super.pack, this, super.identifier);
     }
+
+    /**
+     * Gets the shared VariableID for the identifier, creating it only when it is not interned yet.
+     *
+     * @param pack       the package the identifier is used in
+     * @param identifier the identifier string, starting and ending with '%' character
+     * @return the interned VariableID
+     * @throws QuestException if there is no such variable
+     * @see IDCache
+     */
+    public static VariableID of(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
+        return IDCache.get(VariableID.class, pack, identifier, VariableID::new);
+    }
 }
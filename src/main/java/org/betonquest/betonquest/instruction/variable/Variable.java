@@ -8,13 +8,12 @@ import org.betonquest.betonquest.kernel.processor.adapter.VariableAdapter;
 import org.betonquest.betonquest.kernel.processor.quest.VariableProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Represent a variable that can be resolved in to given type.
@@ -28,11 +27,21 @@ public class Variable<T> {
      */
     private static final Pattern VARIABLE_PATTERN = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*(%((?:[^%\\\\]|\\\\.)*?)%)(?<!\\\\)(?:\\\\\\\\)*");
 
+    /**
+     * The pattern to match a percent sign escaped with a backslash.
+     */
+    private static final Pattern ESCAPED_PERCENT_PATTERN = Pattern.compile("(?<!\\\\)\\\\%");
+
     /**
      * Supplier of the variable value.
      */
     private final ValueResolver<T> value;
 
+    /**
+     * Whether the value is the same for every profile.
+     */
+    private final boolean constant;
+
     /**
      * Creates a constant variable.
      *
@@ -40,6 +49,7 @@ public class Variable<T> {
      */
     public Variable(final T value) {
         this.value = profile -> value;
+        this.constant = true;
     }
 
     /**
@@ -53,56 +63,64 @@ public class Variable<T> {
      */
     public Variable(final VariableProcessor variableProcessor, @Nullable final QuestPackage pack, final String input,
                     final VariableResolver<T> resolver) throws QuestException {
-        final Map<String, VariableAdapter> variables = getVariables(variableProcessor, pack, input);
-        if (variables.isEmpty()) {
+        final Template template = compile(variableProcessor, pack, input);
+        if (template == null) {
             final T resolved = resolver.apply(replaceEscapedPercent(input));
             value = profile -> resolver.clone(resolved);
+            constant = true;
         } else {
-            value = profile -> resolver.apply(replaceEscapedPercent(getString(input, variables, profile)));
-        }
-    }
-
-    private Map<String, VariableAdapter> getVariables(final VariableProcessor variableProcessor,
-                                                      @Nullable final QuestPackage pack,
-                                                      final String input)
-            throws QuestException {
-        final Map<String, VariableAdapter> variables = new HashMap<>();
-        for (final String variable : resolveVariables(input)) {
-            try {
-                final VariableAdapter variableAdapter = variableProcessor.create(pack, replaceEscapedPercent(variable));
-                variables.put(variable, variableAdapter);
-            } catch (final QuestException exception) {
-                throw new QuestException("Could not create variable '" + variable + "': "
-                        + exception.getMessage(), exception);
-            }
+            value = profile -> resolver.apply(template.resolve(profile));
+            constant = false;
         }
-        return variables;
-    }
-
-    private Set<String> resolveVariables(final String input) {
-        return VARIABLE_PATTERN.matcher(input).results()
-                .map(MatchResult::group)
-                .collect(Collectors.toSet());
     }
 
-    private String getString(final String input, final Map<String, VariableAdapter> variables,
-                             @Nullable final Profile profile) throws QuestException {
+    /**
+     * Splits the input into literal parts and variables, so it does not need to be parsed again on resolution.
+     *
+     * @return the compiled template or null if the input contains no variables
+     */
+    @Nullable
+    private static Template compile(final VariableProcessor variableProcessor, @Nullable final QuestPackage pack,
+                                    final String input) throws QuestException {
         final Matcher matcher = VARIABLE_PATTERN.matcher(input);
-        final StringBuilder resolvedString = new StringBuilder();
+        final List<String> literals = new ArrayList<>();
+        final List<VariableAdapter> variables = new ArrayList<>();
+        final Map<String, VariableAdapter> created = new HashMap<>();
+        int literalStart = 0;
         while (matcher.find()) {
             final String variable = matcher.group();
-            final VariableAdapter resolvedVariable = variables.get(variable);
-            if (resolvedVariable == null) {
-                throw new QuestException("Could not resolve variable '" + variable + "'");
+            VariableAdapter adapter = created.get(variable);
+            if (adapter == null) {
+                adapter = createVariable(variableProcessor, pack, variable);
+                created.put(variable, adapter);
             }
-            matcher.appendReplacement(resolvedString, Matcher.quoteReplacement(resolvedVariable.getValue(profile)));
+            literals.add(input.substring(literalStart, matcher.start()));
+            variables.add(adapter);
+            literalStart = matcher.end();
+        }
+        if (variables.isEmpty()) {
+            return null;
         }
-        matcher.appendTail(resolvedString);
-        return resolvedString.toString();
+        literals.add(input.substring(literalStart));
+        return new Template(literals.toArray(new String[0]), variables.toArray(new VariableAdapter[0]));
     }
 
-    private String replaceEscapedPercent(final String input) {
-        return input.replaceAll("(?<!\\\\)\\\\%", "%");
+    private static VariableAdapter createVariable(final VariableProcessor variableProcessor,
+                                                  @Nullable final QuestPackage pack, final String variable)
+            throws QuestException {
+        try {
+            return variableProcessor.create(pack, replaceEscapedPercent(variable));
+        } catch (final QuestException exception) {
+            throw new QuestException("Could not create variable '" + variable + "': "
+                    + exception.getMessage(), exception);
+        }
+    }
+
+    private static String replaceEscapedPercent(final String input) {
+        if (!input.contains("\\%")) {
+            return input;
+        }
+        return ESCAPED_PERCENT_PATTERN.matcher(input).replaceAll("%");
     }
 
     /**
@@ -116,6 +134,38 @@ public class Variable<T> {
         return value.apply(profile);
     }
 
+    /**
+     * Checks if the variable resolves to the same value for every profile.
+     *
+     * @return true if the input contained no variables
+     */
+    public boolean isConstant() {
+        return constant;
+    }
+
+    /**
+     * A string split into literal parts with variables between them.
+     *
+     * @param literals  the literal parts, one more than there are variables
+     * @param variables the variables between the literal parts
+     */
+    private record Template(String[] literals, VariableAdapter[] variables) {
+        /**
+         * Concatenates the literal parts with the resolved variables.
+         *
+         * @param profile the profile to resolve the variables for
+         * @return the resolved string with escaped percent signs replaced
+         * @throws QuestException if a variable could not be resolved
+         */
+        private String resolve(@Nullable final Profile profile) throws QuestException {
+            final StringBuilder resolvedString = new StringBuilder(literals[0]);
+            for (int i = 0; i < variables.length; i++) {
+                resolvedString.append(variables[i].getValue(profile)).append(literals[i + 1]);
+            }
+            return replaceEscapedPercent(resolvedString.toString());
+        }
+    }
+
     /**
      * Resolves the value of the variable with a Nullable Profile.
      *
@@ -21,6 +21,7 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerArmorStandManipulateEvent;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
@@ -30,6 +31,7 @@ import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.inventory.EquipmentSlot;
@@ -277,6 +279,44 @@ public class QuestItemHandler implements Listener {
         }
     }
 
+    /**
+     * Stamps the marker on Quest Items and the Journal in the inventory and ender chest
+     * that were generated before the marker existed,
+     * so they are recognized without comparing their lore and stack with newly generated ones.
+     *
+     * @param event the join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        final OnlineProfile onlineProfile = profileProvider.getProfile(event.getPlayer());
+        migrate(onlineProfile, event.getPlayer().getInventory());
+        migrate(onlineProfile, event.getPlayer().getEnderChest());
+    }
+
+    /**
+     * Stamps the marker on Quest Items in opened containers that were generated before the marker existed.
+     * Does nothing once the lore fallback is disabled, as unmarked items are no quest items then.
+     *
+     * @param event the open event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(final InventoryOpenEvent event) {
+        if (!Utils.isQuestItemLoreFallbackEnabled() || !(event.getPlayer() instanceof final Player player)) {
+            return;
+        }
+        migrate(profileProvider.getProfile(player), event.getInventory());
+    }
+
+    private void migrate(final OnlineProfile onlineProfile, final Inventory inv) {
+        final boolean loreFallback = Utils.isQuestItemLoreFallbackEnabled();
+        for (int i = 0; i < inv.getSize(); i++) {
+            final ItemStack item = inv.getItem(i);
+            if (loreFallback && Utils.migrateQuestItem(item) || Journal.migrateJournal(onlineProfile, item)) {
+                inv.setItem(i, item);
+            }
+        }
+    }
+
     /**
      * Prevents putting the Journal and Quest Items in Item Frames.
      * <p>
@@ -5,6 +5,7 @@ import org.betonquest.betonquest.item.typehandler.ItemMetaHandler;
 import org.betonquest.betonquest.item.typehandler.LoreHandler;
 import org.betonquest.betonquest.item.typehandler.NameHandler;
 import org.betonquest.betonquest.util.BlockSelector;
+import org.betonquest.betonquest.util.Utils;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -95,6 +96,9 @@ public class SimpleQuestItem implements QuestItem {
         for (final ItemMetaHandler<? extends ItemMeta> handler : handlers) {
             handler.rawPopulate(meta, profile);
         }
+        if (Utils.hasQuestItemLore(meta)) {
+            Utils.markQuestItem(meta);
+        }
 
         item.setItemMeta(meta);
         return item;
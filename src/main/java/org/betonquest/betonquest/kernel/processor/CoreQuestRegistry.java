@@ -4,11 +4,13 @@ import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.bstats.InstructionMetricsSupplier;
 import org.betonquest.betonquest.id.ID;
+import org.betonquest.betonquest.kernel.processor.quest.ConditionCache;
 import org.betonquest.betonquest.kernel.processor.quest.ConditionProcessor;
 import org.betonquest.betonquest.kernel.processor.quest.EventProcessor;
 import org.betonquest.betonquest.kernel.processor.quest.ObjectiveProcessor;
 import org.betonquest.betonquest.kernel.processor.quest.VariableProcessor;
 import org.betonquest.betonquest.kernel.registry.quest.QuestTypeRegistries;
+import org.betonquest.betonquest.quest.PrimaryServerThreadData;
 
 import java.util.Map;
 
@@ -32,10 +34,14 @@ public record CoreQuestRegistry(
      *
      * @param loggerFactory       the logger factory used for new custom logger instances
      * @param questTypeRegistries the available quest types
+     * @param data                the data to access the primary server thread
+     * @param conditionCache      the cache for the outcome of conditions
      */
-    public CoreQuestRegistry(final BetonQuestLoggerFactory loggerFactory, final QuestTypeRegistries questTypeRegistries) {
+    public CoreQuestRegistry(final BetonQuestLoggerFactory loggerFactory, final QuestTypeRegistries questTypeRegistries,
+                             final PrimaryServerThreadData data, final ConditionCache conditionCache) {
         this(
-                new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), questTypeRegistries.condition()),
+                new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), questTypeRegistries.condition(),
+                        data, conditionCache),
                 new EventProcessor(loggerFactory.create(EventProcessor.class), questTypeRegistries.event()),
                 new ObjectiveProcessor(loggerFactory.create(ObjectiveProcessor.class), questTypeRegistries.objective()),
                 new VariableProcessor(loggerFactory.create(VariableProcessor.class), questTypeRegistries.variable())
@@ -52,6 +58,16 @@ public record CoreQuestRegistry(
         variables.clear();
     }
 
+    /**
+     * Publishes the loaded Core Quest Types to all threads. Used after loading all QuestPackages.
+     */
+    public void publish() {
+        conditions.publish();
+        events.publish();
+        objectives.publish();
+        variables.publish();
+    }
+
     /**
      * Load all Core Quest Types from the QuestPackage.
      *
@@ -64,6 +80,26 @@ public record CoreQuestRegistry(
         variables.load(pack);
     }
 
+    /**
+     * Prepares loading all Core Quest Types from the QuestPackage.
+     *
+     * @param pack to load the core quest types from
+     * @return the step loading the prepared core quest types
+     * @see QuestProcessor#prepare(QuestPackage)
+     */
+    public Runnable prepare(final QuestPackage pack) {
+        final Runnable loadEvents = events.prepare(pack);
+        final Runnable loadConditions = conditions.prepare(pack);
+        final Runnable loadObjectives = objectives.prepare(pack);
+        final Runnable loadVariables = variables.prepare(pack);
+        return () -> {
+            loadEvents.run();
+            loadConditions.run();
+            loadObjectives.run();
+            loadVariables.run();
+        };
+    }
+
     /**
      * Gets the bstats metric supplier for registered and active quest types.
      *
@@ -5,9 +5,6 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.id.ID;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Does the logic around {@link T}.
  *
@@ -23,7 +20,7 @@ public abstract class QuestProcessor<I extends ID, T> {
     /**
      * Loaded {@link T} identified by their {@link ID}.
      */
-    protected final Map<I, T> values;
+    protected final SnapshotMap<I, T> values;
 
     /**
      * Type name used for logging.
@@ -44,18 +41,27 @@ public abstract class QuestProcessor<I extends ID, T> {
      */
     public QuestProcessor(final BetonQuestLogger log, final String readable, final String internal) {
         this.log = log;
-        this.values = new HashMap<>();
+        this.values = new SnapshotMap<>();
         this.readable = readable;
         this.internal = internal;
     }
 
     /**
      * Clears the values. Used before reloading all QuestPackages.
+     * <p>
+     * Other threads keep seeing the previous values until the loaded ones are {@link #publish() published}.
      */
     public void clear() {
         values.clear();
     }
 
+    /**
+     * Publishes the values loaded since the last {@link #clear()} to all threads at once.
+     */
+    public void publish() {
+        values.publish();
+    }
+
     /**
      * Gets the number of loaded {@link T}.
      *
@@ -89,6 +95,20 @@ public abstract class QuestProcessor<I extends ID, T> {
      */
     public abstract void load(QuestPackage pack);
 
+    /**
+     * Prepares loading all {@link T} from the QuestPackage and returns the step that finishes loading them.
+     * <p>
+     * The preparation is done concurrently for different packages, so it must only read the package
+     * and must not access the loaded values. The returned step is run on the loading thread.
+     * By default, nothing is prepared and the step {@link #load(QuestPackage) loads} the package.
+     *
+     * @param pack to load the {@link T} from
+     * @return the step loading the prepared {@link T}
+     */
+    public Runnable prepare(final QuestPackage pack) {
+        return () -> load(pack);
+    }
+
     /**
      * Creates a new type ID to store the created {@link T} with it.
      *
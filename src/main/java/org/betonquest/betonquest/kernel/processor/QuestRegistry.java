@@ -8,6 +8,7 @@ import org.betonquest.betonquest.api.profile.ProfileProvider;
 import org.betonquest.betonquest.bstats.InstructionMetricsSupplier;
 import org.betonquest.betonquest.config.PluginMessage;
 import org.betonquest.betonquest.id.ID;
+import org.betonquest.betonquest.id.IDCache;
 import org.betonquest.betonquest.kernel.processor.feature.CancelerProcessor;
 import org.betonquest.betonquest.kernel.processor.feature.CompassProcessor;
 import org.betonquest.betonquest.kernel.processor.feature.ConversationProcessor;
@@ -19,12 +20,15 @@ import org.betonquest.betonquest.kernel.processor.quest.VariableProcessor;
 import org.betonquest.betonquest.kernel.registry.feature.FeatureRegistries;
 import org.betonquest.betonquest.message.ParsedSectionMessageCreator;
 import org.betonquest.betonquest.schedule.EventScheduling;
+import org.betonquest.betonquest.util.ParallelLoader;
+
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -89,40 +93,50 @@ public record QuestRegistry(
     /**
      * Loads the Processors with the QuestPackages.
      * <p>
-     * Removes previous data and loads the given QuestPackages.
+     * Loads the given QuestPackages and replaces the previous data with them at once,
+     * so other threads never see partially loaded data.
+     * If loading fails, the values loaded until then are published anyway, so all threads see the same values.
+     * <p>
+     * The packages are prepared in parallel, which resolves the IDs and tokenizes their instructions.
+     * Parsing the instructions, storing and starting them is done on the calling thread.
      *
      * @param packages the quest packages to load
      */
     public void loadData(final Collection<QuestPackage> packages) {
-        eventScheduling.stopAll();
-        core.clear();
-        cancelers.clear();
-        conversations.clear();
-        compasses.clear();
-        items.clear();
-        journalEntries.clear();
-        journalMainPages.clear();
-        npcs.clear();
-        additional.forEach(QuestProcessor::clear);
-
-        for (final QuestPackage pack : packages) {
-            final String packName = pack.getQuestPath();
-            log.debug(pack, "Loading stuff in package " + packName);
-            cancelers.load(pack);
-            core.load(pack);
-            compasses.load(pack);
-            conversations.load(pack);
-            items.load(pack);
-            journalEntries.load(pack);
-            journalMainPages.load(pack);
-            npcs.load(pack);
-            eventScheduling.loadData(pack);
-            additional.forEach(questProcessor -> questProcessor.load(pack));
-
-            log.debug(pack, "Everything in package " + packName + " loaded");
-        }
+        final long start = System.nanoTime();
+        long prepareStart = start;
+        long loadStart = start;
+        long publishStart = start;
+        try {
+            eventScheduling.stopAll();
+            IDCache.clear();
+            core.clear();
+            cancelers.clear();
+            conversations.clear();
+            compasses.clear();
+            items.clear();
+            journalEntries.clear();
+            journalMainPages.clear();
+            npcs.clear();
+            additional.forEach(QuestProcessor::clear);
 
-        conversations.checkExternalPointers();
+            prepareStart = System.nanoTime();
+            final List<PreparedPackage> prepared = ParallelLoader.map("BetonQuest Package Loader", packages, this::prepare);
+
+            loadStart = System.nanoTime();
+            for (final PreparedPackage preparedPackage : prepared) {
+                final QuestPackage pack = preparedPackage.pack();
+                final String packName = pack.getQuestPath();
+                log.debug(pack, "Loading stuff in package " + packName);
+                preparedPackage.steps().forEach(Runnable::run);
+                log.debug(pack, "Everything in package " + packName + " loaded");
+            }
+
+            conversations.checkExternalPointers();
+        } finally {
+            publishStart = System.nanoTime();
+            publish();
+        }
 
         log.info("There are " + String.join(", ", core.readableSize(),
                 cancelers.readableSize(), compasses.readableSize(), conversations.readableSize(), items.readableSize(),
@@ -130,12 +144,55 @@ public record QuestRegistry(
                 + " (Additional: " + additional.stream().map(QuestProcessor::readableSize).collect(Collectors.joining(", ")) + ")"
                 + " loaded from " + packages.size() + " packages.");
 
+        final long startStart = System.nanoTime();
         eventScheduling.startAll();
         additional.forEach(questProcessor -> {
             if (questProcessor instanceof StartTask startTask) {
                 startTask.startAll();
             }
         });
+        final long end = System.nanoTime();
+
+        log.info("Loading took " + millis(start, end) + " ms (clearing " + millis(start, prepareStart)
+                + " ms, preparing " + millis(prepareStart, loadStart) + " ms, parsing " + millis(loadStart, publishStart)
+                + " ms, publishing " + millis(publishStart, startStart) + " ms, starting " + millis(startStart, end) + " ms).");
+    }
+
+    /**
+     * Publishes the loaded values of all processors.
+     * Also called if loading failed, so the loading thread does not keep seeing partially loaded values
+     * while all other threads see the previous ones.
+     */
+    private void publish() {
+        core.publish();
+        cancelers.publish();
+        conversations.publish();
+        compasses.publish();
+        items.publish();
+        journalEntries.publish();
+        journalMainPages.publish();
+        npcs.publish();
+        additional.forEach(QuestProcessor::publish);
+        IDCache.clear();
+    }
+
+    private PreparedPackage prepare(final QuestPackage pack) {
+        final List<Runnable> steps = new ArrayList<>();
+        steps.add(cancelers.prepare(pack));
+        steps.add(core.prepare(pack));
+        steps.add(compasses.prepare(pack));
+        steps.add(conversations.prepare(pack));
+        steps.add(items.prepare(pack));
+        steps.add(journalEntries.prepare(pack));
+        steps.add(journalMainPages.prepare(pack));
+        steps.add(npcs.prepare(pack));
+        steps.add(() -> eventScheduling.loadData(pack));
+        additional.forEach(questProcessor -> steps.add(questProcessor.prepare(pack)));
+        return new PreparedPackage(pack, steps);
+    }
+
+    private static long millis(final long fromNanos, final long toNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(toNanos - fromNanos);
     }
 
     /**
@@ -151,4 +208,13 @@ public record QuestRegistry(
         );
         return map;
     }
+
+    /**
+     * A package with the steps to finish loading it.
+     *
+     * @param pack  the prepared package
+     * @param steps the steps to run in order on the loading thread
+     */
+    private record PreparedPackage(QuestPackage pack, List<Runnable> steps) {
+    }
 }
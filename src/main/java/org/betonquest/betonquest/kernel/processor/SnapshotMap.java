@@ -0,0 +1,187 @@
+package org.betonquest.betonquest.kernel.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map of loaded values that can be read from any thread without locking.
+ * <p>
+ * Loaded values are published as an immutable snapshot. A reload fills a new staging map,
+ * which only the loading thread sees until {@link #publish()} swaps it in atomically,
+ * so other threads keep reading the previous values meanwhile.
+ * Values added after loading, like lazily created variables, are stored in a concurrent side table
+ * that is dropped on the next publish.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+public final class SnapshotMap<K, V> extends AbstractMap<K, V> {
+    /**
+     * The published values.
+     */
+    private volatile Map<K, V> snapshot;
+
+    /**
+     * Values added after the snapshot was published.
+     */
+    private volatile Map<K, V> lazy;
+
+    /**
+     * The values being loaded, only visible to the loading thread.
+     */
+    @Nullable
+    private volatile Map<K, V> staging;
+
+    /**
+     * The thread filling the staging map.
+     */
+    @Nullable
+    private volatile Thread loader;
+
+    /**
+     * Creates a new empty map.
+     */
+    public SnapshotMap() {
+        super();
+        this.snapshot = Map.of();
+        this.lazy = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts loading new values on the current thread.
+     * Until they are published, only the current thread sees the new values and all other threads the previous ones.
+     */
+    @Override
+    public synchronized void clear() {
+        staging = new HashMap<>();
+        loader = Thread.currentThread();
+    }
+
+    /**
+     * Publishes the loaded values to all threads and drops the values added after the previous publish.
+     * Does nothing if no values are being loaded.
+     */
+    public synchronized void publish() {
+        final Map<K, V> loaded = staging;
+        if (loaded == null) {
+            return;
+        }
+        snapshot = Map.copyOf(loaded);
+        lazy = new ConcurrentHashMap<>();
+        staging = null;
+        loader = null;
+    }
+
+    @Nullable
+    private Map<K, V> loading() {
+        return loader == Thread.currentThread() ? staging : null;
+    }
+
+    @Override
+    @Nullable
+    public V get(final Object key) {
+        final Map<K, V> loading = loading();
+        if (loading != null) {
+            return loading.get(key);
+        }
+        final V value = snapshot.get(key);
+        return value == null ? lazy.get(key) : value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    @Nullable
+    public V put(final K key, final V value) {
+        final Map<K, V> loading = loading();
+        if (loading != null) {
+            return loading.put(key, value);
+        }
+        if (snapshot.containsKey(key)) {
+            return putInSnapshot(key, value);
+        }
+        return lazy.put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public V putIfAbsent(final K key, final V value) {
+        final Map<K, V> loading = loading();
+        if (loading != null) {
+            return loading.putIfAbsent(key, value);
+        }
+        final V existing = snapshot.get(key);
+        return existing == null ? lazy.putIfAbsent(key, value) : existing;
+    }
+
+    @Override
+    @Nullable
+    public V remove(final Object key) {
+        final Map<K, V> loading = loading();
+        if (loading != null) {
+            return loading.remove(key);
+        }
+        if (snapshot.containsKey(key)) {
+            return removeFromSnapshot(key);
+        }
+        return lazy.remove(key);
+    }
+
+    @Nullable
+    private synchronized V putInSnapshot(final K key, final V value) {
+        final Map<K, V> copy = new HashMap<>(snapshot);
+        final V previous = copy.put(key, value);
+        snapshot = Map.copyOf(copy);
+        return previous;
+    }
+
+    @Nullable
+    private synchronized V removeFromSnapshot(final Object key) {
+        final Map<K, V> copy = new HashMap<>(snapshot);
+        final V previous = copy.remove(key);
+        snapshot = Map.copyOf(copy);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        final Map<K, V> loading = loading();
+        if (loading != null) {
+            return loading.size();
+        }
+        return snapshot.size() + lazy.size();
+    }
+
+    /**
+     * Gets the entries.
+     * <p>
+     * While loading, the loading thread gets the modifiable entries of the new values.
+     * All other threads get an unmodifiable copy of the current values.
+     *
+     * @return the entries
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        final Map<K, V> loading = loading();
+        if (loading != null) {
+            return loading.entrySet();
+        }
+        final Map<K, V> currentLazy = lazy;
+        if (currentLazy.isEmpty()) {
+            return snapshot.entrySet();
+        }
+        final Map<K, V> merged = new HashMap<>(snapshot);
+        merged.putAll(currentLazy);
+        return Collections.unmodifiableMap(merged).entrySet();
+    }
+}
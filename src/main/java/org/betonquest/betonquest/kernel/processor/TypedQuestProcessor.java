@@ -8,7 +8,10 @@ import org.betonquest.betonquest.id.ID;
 import org.betonquest.betonquest.kernel.registry.FactoryRegistry;
 import org.betonquest.betonquest.kernel.registry.TypeFactory;
 import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,26 +52,62 @@ public abstract class TypedQuestProcessor<I extends ID, T> extends QuestProcesso
 
     @Override
     public void load(final QuestPackage pack) {
+        prepare(pack).run();
+    }
+
+    /**
+     * Prepares loading by resolving the identifiers and tokenizing their instructions.
+     * The returned step parses the instructions with the type factories and stores them.
+     *
+     * @param pack to load the {@link T} from
+     * @return the step parsing and storing the prepared {@link T}
+     */
+    @Override
+    public Runnable prepare(final QuestPackage pack) {
         final ConfigurationSection section = pack.getConfig().getConfigurationSection(internal);
         if (section == null) {
-            return;
+            return () -> {
+            };
         }
-        final String packName = pack.getQuestPath();
+        final List<PreparedKey<I>> prepared = new ArrayList<>();
         for (final String key : section.getKeys(false)) {
             if (key.contains(" ")) {
-                log.warn(pack, readable + " name cannot contain spaces: '" + key + "' (in " + packName + " package)");
+                prepared.add(new PreparedKey<>(key, null, null));
+                continue;
+            }
+            try {
+                prepared.add(new PreparedKey<>(key, getIdentifier(pack, key), null));
+            } catch (final QuestException e) {
+                prepared.add(new PreparedKey<>(key, null, e));
+            }
+        }
+        return () -> loadPrepared(pack, prepared);
+    }
+
+    private void loadPrepared(final QuestPackage pack, final List<PreparedKey<I>> prepared) {
+        final String packName = pack.getQuestPath();
+        for (final PreparedKey<I> key : prepared) {
+            final I identifier = key.identifier();
+            final QuestException error = key.error();
+            if (error != null) {
+                logLoadError(pack, key.key(), error);
+            } else if (identifier == null) {
+                log.warn(pack, readable + " name cannot contain spaces: '" + key.key() + "' (in " + packName + " package)");
             } else {
                 try {
-                    loadKey(key, pack);
+                    loadKey(identifier, pack);
                 } catch (final QuestException e) {
-                    log.warn(pack, "Error while loading " + readable + " '" + packName + "." + key + "': " + e.getMessage(), e);
+                    logLoadError(pack, key.key(), e);
                 }
             }
         }
     }
 
-    private void loadKey(final String key, final QuestPackage pack) throws QuestException {
-        final I identifier = getIdentifier(pack, key);
+    private void logLoadError(final QuestPackage pack, final String key, final QuestException exception) {
+        log.warn(pack, "Error while loading " + readable + " '" + pack.getQuestPath() + "." + key + "': " + exception.getMessage(), exception);
+    }
+
+    private void loadKey(final I identifier, final QuestPackage pack) throws QuestException {
         final String type = identifier.getInstruction().getPart(0);
         final TypeFactory<T> factory = types.getFactory(type);
         try {
@@ -91,4 +130,15 @@ public abstract class TypedQuestProcessor<I extends ID, T> extends QuestProcesso
     protected void postCreation(final I identifier, final T value) {
         // Empty
     }
+
+    /**
+     * A key of the section with its resolved identifier.
+     *
+     * @param key        the key in the section
+     * @param identifier the identifier, null if the key is invalid or could not be resolved
+     * @param error      the error resolving the identifier, null if it was resolved or the key is invalid
+     * @param <I>        the type of the identifier
+     */
+    private record PreparedKey<I extends ID>(String key, @Nullable I identifier, @Nullable QuestException error) {
+    }
 }
@@ -5,12 +5,17 @@ import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerlessCondition;
+import org.betonquest.betonquest.quest.PrimaryServerThreadType;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Adapter for {@link PlayerCondition} and {@link PlayerlessCondition}.
  */
 public class ConditionAdapter extends QuestAdapter<PlayerCondition, PlayerlessCondition> {
+    /**
+     * Whether the outcome only depends on player data whose changes invalidate the condition cache.
+     */
+    private final boolean cacheable;
 
     /**
      * Create a new Adapter with instruction and at least one type.
@@ -21,7 +26,31 @@ public class ConditionAdapter extends QuestAdapter<PlayerCondition, PlayerlessCo
      * @throws IllegalArgumentException if there is no type provided
      */
     public ConditionAdapter(final QuestPackage pack, @Nullable final PlayerCondition player, @Nullable final PlayerlessCondition playerless) {
+        this(pack, player, playerless, false);
+    }
+
+    /**
+     * Create a new Adapter with instruction and at least one type.
+     *
+     * @param pack       the package where the types are from
+     * @param player     the type requiring a profile for execution
+     * @param playerless the type working without a profile
+     * @param cacheable  whether the outcome only depends on player data whose changes invalidate the condition cache
+     * @throws IllegalArgumentException if there is no type provided
+     */
+    public ConditionAdapter(final QuestPackage pack, @Nullable final PlayerCondition player,
+                            @Nullable final PlayerlessCondition playerless, final boolean cacheable) {
         super(pack, player, playerless);
+        this.cacheable = cacheable;
+    }
+
+    /**
+     * Checks if the outcome of the condition may be cached for a profile.
+     *
+     * @return true if the outcome only depends on player data whose changes invalidate the condition cache
+     */
+    public boolean isCacheable() {
+        return cacheable;
     }
 
     /**
@@ -40,4 +69,17 @@ public class ConditionAdapter extends QuestAdapter<PlayerCondition, PlayerlessCo
         }
         return player.check(profile);
     }
+
+    /**
+     * Checks if the condition has to be checked on the primary server thread.
+     *
+     * @param profile the {@link Profile} that will be used for checking
+     * @return true if the variant used for the profile is wrapped to run on the primary server thread
+     */
+    public boolean requiresPrimaryThread(@Nullable final Profile profile) {
+        if (player == null || profile == null) {
+            return playerless instanceof PrimaryServerThreadType<?, ?>;
+        }
+        return player instanceof PrimaryServerThreadType<?, ?>;
+    }
 }
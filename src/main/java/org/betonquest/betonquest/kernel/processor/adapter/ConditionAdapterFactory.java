@@ -13,6 +13,11 @@ import org.jetbrains.annotations.Nullable;
  * {@link PlayerCondition}s and {@link PlayerlessCondition}s they create.
  */
 public class ConditionAdapterFactory extends QuestAdapterFactory<PlayerCondition, PlayerlessCondition, ConditionAdapter> {
+    /**
+     * Whether the created conditions may be cached.
+     */
+    private final boolean cacheable;
+
     /**
      * Create a new adapter factory from {@link org.betonquest.betonquest.api.quest QuestFactories} for
      * {@link org.betonquest.betonquest.api.quest.condition Conditions}.
@@ -23,13 +28,30 @@ public class ConditionAdapterFactory extends QuestAdapterFactory<PlayerCondition
      */
     public ConditionAdapterFactory(@Nullable final PlayerQuestFactory<PlayerCondition> playerFactory,
                                    @Nullable final PlayerlessQuestFactory<PlayerlessCondition> playerlessFactory) {
+        this(playerFactory, playerlessFactory, false);
+    }
+
+    /**
+     * Create a new adapter factory from {@link org.betonquest.betonquest.api.quest QuestFactories} for
+     * {@link org.betonquest.betonquest.api.quest.condition Conditions}.
+     *
+     * @param playerFactory     the player factory to use
+     * @param playerlessFactory the playerless factory to use
+     * @param cacheable         whether the created conditions only depend on player data
+     *                          whose changes invalidate the condition cache
+     * @throws IllegalArgumentException if no factory is given
+     */
+    public ConditionAdapterFactory(@Nullable final PlayerQuestFactory<PlayerCondition> playerFactory,
+                                   @Nullable final PlayerlessQuestFactory<PlayerlessCondition> playerlessFactory,
+                                   final boolean cacheable) {
         super(playerFactory, playerlessFactory);
+        this.cacheable = cacheable;
     }
 
     @Override
     protected ConditionAdapter getAdapter(final Instruction instruction,
                                           @Nullable final PlayerCondition playerType,
                                           @Nullable final PlayerlessCondition playerlessType) {
-        return new ConditionAdapter(instruction.getPackage(), playerType, playerlessType);
+        return new ConditionAdapter(instruction.getPackage(), playerType, playerlessType, cacheable);
     }
 }
@@ -54,7 +54,7 @@ public class EventAdapter extends QuestAdapter<PlayerEvent, PlayerlessEvent> {
         this.log = log;
         this.questTypeAPI = questTypeAPI;
         this.instruction = instruction;
-        conditions = instruction.getValueList("conditions", ConditionID::new);
+        conditions = instruction.getValueList("conditions", ConditionID::of);
     }
 
     /**
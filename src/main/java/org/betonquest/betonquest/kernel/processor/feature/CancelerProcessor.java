@@ -83,8 +83,8 @@ public class CancelerProcessor extends SectionProcessor<QuestCancelerID, QuestCa
         final String rawLoc = section.getString("location");
         final Variable<Location> location = rawLoc == null ? null : new Variable<>(variableProcessor, pack, rawLoc, Argument.LOCATION);
         final QuestCanceler.CancelData cancelData = new QuestCanceler.CancelData(
-                new VariableList<>(variableProcessor, pack, section.getString("conditions", ""), value -> new ConditionID(pack, value)),
-                new VariableList<>(variableProcessor, pack, section.getString("events", ""), value -> new EventID(pack, value)),
+                new VariableList<>(variableProcessor, pack, section.getString("conditions", ""), value -> ConditionID.of(pack, value)),
+                new VariableList<>(variableProcessor, pack, section.getString("events", ""), value -> EventID.of(pack, value)),
                 new VariableList<>(variableProcessor, pack, section.getString("objectives", ""), value -> new ObjectiveID(pack, value)),
                 new VariableList<>(variableProcessor, pack, section.getString("tags", ""), Argument.STRING),
                 new VariableList<>(variableProcessor, pack, section.getString("points", ""), Argument.STRING),
@@ -52,7 +52,7 @@ public class JournalMainPageProcessor extends SectionProcessor<JournalMainPageID
         }
         final Variable<List<ConditionID>> conditions = new VariableList<>(variableProcessor, pack,
                 section.getString("conditions", ""),
-                value -> new ConditionID(pack, value));
+                value -> ConditionID.of(pack, value));
         final Message text = messageCreator.parseFromSection(pack, section, "text");
         return new JournalMainPageEntry(priority, conditions, text);
     }
@@ -0,0 +1,308 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.bukkit.event.PlayerJournalAddEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerJournalDeleteEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagAddEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagRemoveEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.id.ConditionID;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the outcome of conditions per profile.
+ * <p>
+ * Only conditions that depend on nothing but this player data are cached, see
+ * {@link org.betonquest.betonquest.kernel.processor.adapter.ConditionAdapter#isCacheable()}.
+ * All results of a profile are dropped when its tags, points, journal or objectives change.
+ * Every result also expires after the configured time to live.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class ConditionCache implements Listener {
+    /**
+     * Whether results are cached at all.
+     */
+    private final boolean enabled;
+
+    /**
+     * Time in milliseconds a result is valid.
+     */
+    private final long timeToLive;
+
+    /**
+     * Source of the current time in milliseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Provider to get the profile of players that leave.
+     */
+    private final ProfileProvider profileProvider;
+
+    /**
+     * Source of unique generations, so results checked before an invalidation are never stored after it.
+     */
+    private final AtomicLong generations;
+
+    /**
+     * The cached results by profile UUID.
+     */
+    private final Map<UUID, ProfileResults> results;
+
+    /**
+     * The number of lookups that returned a cached result.
+     */
+    private final LongAdder hits;
+
+    /**
+     * The number of lookups that found no valid result.
+     */
+    private final LongAdder misses;
+
+    /**
+     * Create a new condition cache.
+     *
+     * @param profileProvider the profile provider to get the profile of players that leave
+     * @param enabled         whether results should be cached
+     * @param timeToLive      the time in milliseconds a result is valid
+     */
+    public ConditionCache(final ProfileProvider profileProvider, final boolean enabled, final long timeToLive) {
+        this(profileProvider, enabled, timeToLive, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a new condition cache.
+     *
+     * @param profileProvider the profile provider to get the profile of players that leave
+     * @param enabled         whether results should be cached
+     * @param timeToLive      the time in milliseconds a result is valid
+     * @param clock           the source of the current time in milliseconds
+     */
+    public ConditionCache(final ProfileProvider profileProvider, final boolean enabled, final long timeToLive,
+                          final LongSupplier clock) {
+        this.profileProvider = profileProvider;
+        this.generations = new AtomicLong();
+        this.enabled = enabled && timeToLive > 0;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.results = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Whether results are cached.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the state of the profile's results, to be passed to {@link #put(Profile, ConditionID, boolean, long)}.
+     * This prevents storing results that were checked before the data of the profile changed.
+     *
+     * @param profile the profile to check the condition for
+     * @return the current generation of the profile's results
+     */
+    public long generation(final Profile profile) {
+        return profileResults(profile).generation;
+    }
+
+    /**
+     * Gets the cached outcome of a condition.
+     *
+     * @param profile     the profile the condition was checked for
+     * @param conditionID the condition
+     * @return the outcome or null if there is no valid result
+     */
+    @Nullable
+    public Boolean get(final Profile profile, final ConditionID conditionID) {
+        final ProfileResults profileResults = results.get(profile.getProfileUUID());
+        final CachedResult result = profileResults == null ? null : profileResults.outcomes.get(conditionID);
+        if (result == null || result.expires() < clock.getAsLong()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return result.outcome();
+    }
+
+    /**
+     * Stores the outcome of a condition, unless the data of the profile changed since the generation was taken.
+     *
+     * @param profile     the profile the condition was checked for
+     * @param conditionID the condition
+     * @param outcome     the outcome of the condition, not considering inversion
+     * @param generation  the generation taken before the condition was checked
+     */
+    public void put(final Profile profile, final ConditionID conditionID, final boolean outcome, final long generation) {
+        final ProfileResults profileResults = profileResults(profile);
+        synchronized (profileResults) {
+            if (profileResults.generation == generation) {
+                profileResults.outcomes.put(conditionID, new CachedResult(outcome, clock.getAsLong() + timeToLive));
+            }
+        }
+    }
+
+    /**
+     * Drops all results of a profile.
+     *
+     * @param profile the profile whose data changed
+     */
+    public void invalidate(final Profile profile) {
+        final ProfileResults profileResults = results.get(profile.getProfileUUID());
+        if (profileResults != null) {
+            synchronized (profileResults) {
+                profileResults.generation = generations.incrementAndGet();
+                profileResults.outcomes.clear();
+            }
+        }
+    }
+
+    /**
+     * Drops all results.
+     */
+    public void clear() {
+        results.values().forEach(profileResults -> profileResults.generation = generations.incrementAndGet());
+        results.clear();
+    }
+
+    /**
+     * Gets the number of lookups that returned a cached result.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that found no valid result.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private ProfileResults profileResults(final Profile profile) {
+        return results.computeIfAbsent(profile.getProfileUUID(), uuid -> new ProfileResults(generations.incrementAndGet()));
+    }
+
+    /**
+     * Invalidates the results when a tag was added.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagAdd(final PlayerTagAddEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Invalidates the results when a tag was removed.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagRemove(final PlayerTagRemoveEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Invalidates the results when points changed.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPointUpdate(final PlayerUpdatePointEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Invalidates the results when an objective changed its state.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onObjectiveChange(final PlayerObjectiveChangeEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Invalidates the results when a journal entry was added.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJournalAdd(final PlayerJournalAddEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Invalidates the results when a journal entry was deleted.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJournalDelete(final PlayerJournalDeleteEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Drops the results of players that left.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        final ProfileResults profileResults = results.remove(profileProvider.getProfile(event.getPlayer()).getProfileUUID());
+        if (profileResults != null) {
+            profileResults.generation = generations.incrementAndGet();
+        }
+    }
+
+    /**
+     * A cached outcome.
+     *
+     * @param outcome the outcome of the condition, not considering inversion
+     * @param expires the time in milliseconds after which the outcome is no longer valid
+     */
+    private record CachedResult(boolean outcome, long expires) {
+    }
+
+    /**
+     * The cached results of one profile.
+     */
+    private static final class ProfileResults {
+        /**
+         * Changed to a new unique value whenever the results are invalidated.
+         */
+        private volatile long generation;
+
+        /**
+         * The outcomes by condition.
+         */
+        private final Map<ConditionID, CachedResult> outcomes;
+
+        private ProfileResults(final long generation) {
+            this.generation = generation;
+            this.outcomes = new ConcurrentHashMap<>();
+        }
+    }
+}
@@ -8,26 +8,106 @@ import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.kernel.processor.TypedQuestProcessor;
 import org.betonquest.betonquest.kernel.processor.adapter.ConditionAdapter;
 import org.betonquest.betonquest.kernel.registry.quest.ConditionTypeRegistry;
-import org.bukkit.Bukkit;
+import org.betonquest.betonquest.quest.PrimaryServerThreadData;
+import org.bukkit.plugin.IllegalPluginAccessException;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Does the logic around Conditions.
+ * <p>
+ * Conditions can be checked asynchronously with {@link #checksAsync(Profile, ConditionID...)}.
+ * All conditions that have to run on the primary server thread are checked together in a single tick,
+ * while all other conditions are checked in parallel on a bounded thread pool.
+ * The check stops at the first condition that is not met.
  */
+@SuppressWarnings("PMD.DoNotUseThreads")
 public class ConditionProcessor extends TypedQuestProcessor<ConditionID, ConditionAdapter> {
+    /**
+     * Maximum time in seconds a blocking check waits for the result.
+     */
+    private static final long CHECK_TIMEOUT = 10;
+
+    /**
+     * Maximum amount of condition checks waiting for a free thread.
+     * If the queue is full or the pool is shut down the checks run on the calling thread.
+     */
+    private static final int QUEUE_CAPACITY = 1024;
+
+    /**
+     * Data to access the primary server thread.
+     */
+    private final PrimaryServerThreadData data;
+
+    /**
+     * Cache for the outcome of conditions.
+     */
+    private final ConditionCache cache;
+
+    /**
+     * Executor for conditions that do not need the primary server thread.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Marks the threads of the {@link #executor}, so nested checks do not wait for the pool they run in.
+     */
+    private final ThreadLocal<Boolean> workerThread;
+
     /**
      * Create a new Condition Processor to store Conditions and checks them.
      *
      * @param log            the custom logger for this class
      * @param conditionTypes the available condition types
+     * @param data           the data to access the primary server thread
+     * @param cache          the cache for the outcome of conditions
      */
-    public ConditionProcessor(final BetonQuestLogger log, final ConditionTypeRegistry conditionTypes) {
+    public ConditionProcessor(final BetonQuestLogger log, final ConditionTypeRegistry conditionTypes,
+                              final PrimaryServerThreadData data, final ConditionCache cache) {
         super(log, conditionTypes, "Condition", "conditions");
+        this.data = data;
+        this.cache = cache;
+        this.workerThread = ThreadLocal.withInitial(() -> false);
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            final Thread thread = new Thread(() -> {
+                workerThread.set(true);
+                runnable.run();
+            }, "BetonQuest Conditions #" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, rejectedBy) -> runnable.run());
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        cache.clear();
+    }
+
+    /**
+     * Gets the cache for the outcome of conditions, for example to read its hit and miss counts.
+     *
+     * @return the condition cache
+     */
+    public ConditionCache getCache() {
+        return cache;
     }
 
     @Override
@@ -37,46 +117,126 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
 
     /**
      * Checks if the conditions described by conditionID are met.
+     * Blocks until the result is known if not called on the primary server thread.
      *
      * @param profile      the {@link Profile} of the player which should be checked
      * @param conditionIDs IDs of the conditions to check
      * @return if all conditions are met
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
     public boolean checks(@Nullable final Profile profile, final ConditionID... conditionIDs) {
-        if (Bukkit.isPrimaryThread()) {
+        if (data.server().isPrimaryThread()) {
             for (final ConditionID id : conditionIDs) {
                 if (!check(profile, id)) {
                     return false;
                 }
             }
-        } else {
-            final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
-            for (final ConditionID id : conditionIDs) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> check(profile, id));
-                conditions.add(future);
+            return true;
+        }
+        final Executor async = workerThread.get() || executor.isShutdown() ? Runnable::run : executor;
+        try {
+            return checksAsync(profile, async, conditionIDs).get(CHECK_TIMEOUT, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("Interrupted while checking conditions", e);
+            return false;
+        } catch (final ExecutionException | TimeoutException e) {
+            // If this happens during a shutdown, the primary thread part will never run.
+            if (data.server().isStopping()) {
+                log.debug("Exception during shutdown while checking conditions (expected):", e);
+                return false;
+            }
+            log.reportException(e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the conditions described by conditionID are met without blocking the calling thread.
+     * The result is false as soon as one condition is not met, the remaining conditions may be skipped.
+     *
+     * @param profile      the {@link Profile} of the player which should be checked
+     * @param conditionIDs IDs of the conditions to check
+     * @return a stage completing with true if all conditions are met
+     */
+    public CompletionStage<Boolean> checksAsync(@Nullable final Profile profile, final ConditionID... conditionIDs) {
+        return checksAsync(profile, executor.isShutdown() ? Runnable::run : executor, conditionIDs);
+    }
+
+    private CompletableFuture<Boolean> checksAsync(@Nullable final Profile profile, final Executor async,
+                                                   final ConditionID... conditionIDs) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final List<ConditionID> primaryThread = new ArrayList<>();
+        final List<ConditionID> anyThread = new ArrayList<>();
+        for (final ConditionID id : conditionIDs) {
+            final ConditionAdapter condition = values.get(id);
+            if (condition != null && condition.requiresPrimaryThread(profile)) {
+                primaryThread.add(id);
+            } else {
+                anyThread.add(id);
+            }
+        }
+        final List<CompletableFuture<Void>> parts = new ArrayList<>(anyThread.size() + 1);
+        if (!primaryThread.isEmpty()) {
+            parts.add(runOnPrimaryThread(() -> checkUntilFalse(result, profile, primaryThread)));
+        }
+        for (final ConditionID id : anyThread) {
+            if (result.isDone()) {
+                break;
+            }
+            parts.add(CompletableFuture.runAsync(() -> checkUntilFalse(result, profile, List.of(id)), async));
+        }
+        CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, throwable) -> {
+            if (throwable == null) {
+                result.complete(true);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
+        return result;
+    }
+
+    private void checkUntilFalse(final CompletableFuture<Boolean> result, @Nullable final Profile profile,
+                                 final List<ConditionID> conditionIDs) {
+        for (final ConditionID id : conditionIDs) {
+            if (result.isDone()) {
+                return;
             }
-            for (final CompletableFuture<Boolean> condition : conditions) {
+            if (!check(profile, id)) {
+                result.complete(false);
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private CompletableFuture<Void> runOnPrimaryThread(final Runnable task) {
+        if (data.server().isPrimaryThread()) {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            data.scheduler().runTask(data.plugin(), () -> {
                 try {
-                    if (!condition.get()) {
-                        return false;
-                    }
-                } catch (final InterruptedException | ExecutionException e) {
-                    // Currently conditions that are forced to be sync cause every CompletableFuture.get() call
-                    // to delay the check by one tick.
-                    // If this happens during a shutdown, the check will be delayed past the last tick.
-                    // This will throw a CancellationException and IllegalPluginAccessExceptions.
-                    if (Bukkit.getServer().isStopping()) {
-                        log.debug("Exception during shutdown while checking conditions (expected):", e);
-                        return false;
-                    }
-                    log.reportException(e);
-                    return false;
+                    task.run();
+                    future.complete(null);
+                } catch (final RuntimeException e) {
+                    future.completeExceptionally(e);
                 }
-            }
+            });
+        } catch (final IllegalPluginAccessException e) {
+            future.completeExceptionally(e);
         }
-        return true;
+        return future;
+    }
+
+    /**
+     * Stops the threads used for asynchronous checks.
+     * Checks that are already queued still run, so no caller waits for a result that never comes.
+     * Later checks run on the calling thread.
+     */
+    public void shutdown() {
+        executor.shutdown();
     }
 
     /**
@@ -99,7 +259,7 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
         }
         final boolean outcome;
         try {
-            outcome = condition.check(profile);
+            outcome = checkCached(profile, conditionID, condition);
         } catch (final QuestException e) {
             log.warn(conditionID.getPackage(), "Error while checking '" + conditionID + "' condition: " + e.getMessage(), e);
             return false;
@@ -110,4 +270,19 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
                         + conditionID + " for " + profile);
         return isMet;
     }
+
+    private boolean checkCached(@Nullable final Profile profile, final ConditionID conditionID,
+                                final ConditionAdapter condition) throws QuestException {
+        if (profile == null || !cache.isEnabled() || !condition.isCacheable()) {
+            return condition.check(profile);
+        }
+        final Boolean cached = cache.get(profile, conditionID);
+        if (cached != null) {
+            return cached;
+        }
+        final long generation = cache.generation(profile);
+        final boolean outcome = condition.check(profile);
+        cache.put(profile, conditionID, outcome, generation);
+        return outcome;
+    }
 }
@@ -111,13 +111,17 @@ public class NpcProcessor extends TypedQuestProcessor<NpcID, NpcWrapper<?>> {
         this.plugin = plugin;
         plugin.getServer().getPluginManager().registerEvents(new NpcListener(), plugin);
         this.npcHider = new NpcHider(loggerFactory.create(NpcHider.class), this, plugin, profileProvider, npcTypes);
+        plugin.getServer().getPluginManager().registerEvents(npcHider, plugin);
         this.busySender = new IngameNotificationSender(log, pluginMessage, null, "NpcProcessor", NotificationLevel.ERROR, "busy");
     }
 
     @Override
-    public void load(final QuestPackage pack) {
-        super.load(pack);
-        loadBindings(pack);
+    public Runnable prepare(final QuestPackage pack) {
+        final Runnable npcs = super.prepare(pack);
+        return () -> {
+            npcs.run();
+            loadBindings(pack);
+        };
     }
 
     /**
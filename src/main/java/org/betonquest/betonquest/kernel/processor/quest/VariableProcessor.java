@@ -29,8 +29,10 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, VariableA
     }
 
     @Override
-    public void load(final QuestPackage pack) {
-        // Empty
+    public Runnable prepare(final QuestPackage pack) {
+        return () -> {
+            // Empty
+        };
     }
 
     @Override
@@ -51,7 +53,7 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, VariableA
             throws QuestException {
         final VariableID variableID;
         try {
-            variableID = new VariableID(pack, instruction);
+            variableID = VariableID.of(pack, instruction);
         } catch (final QuestException e) {
             throw new QuestException("Could not load variable: " + e.getMessage(), e);
         }
@@ -59,10 +61,13 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, VariableA
         if (existingVariable != null) {
             return existingVariable;
         }
-        final Instruction instructionVar = variableID.getInstruction();
+        final Instruction instructionVar = variableID.getInstruction().copy();
         final TypeFactory<VariableAdapter> variableFactory = types.getFactory(instructionVar.current());
         final VariableAdapter variable = variableFactory.parseInstruction(instructionVar);
-        values.put(variableID, variable);
+        final VariableAdapter concurrentVariable = values.putIfAbsent(variableID, variable);
+        if (concurrentVariable != null) {
+            return concurrentVariable;
+        }
         log.debug(pack, "Variable " + variableID + " loaded");
         return variable;
     }
@@ -24,6 +24,21 @@ public class ConditionTypeRegistry extends QuestTypeRegistry<PlayerCondition, Pl
         super(log, "condition");
     }
 
+    /**
+     * Registers a type whose outcome only depends on player data that invalidates the condition cache
+     * when it changes, like tags or points. The outcome of these conditions may be cached per profile.
+     * <p>
+     * Conditions that depend on anything else, like the world, the time or randomness, must not be registered
+     * with this method.
+     *
+     * @param name    the name of the type
+     * @param factory the player factory to create the type
+     */
+    public void registerCacheable(final String name, final PlayerQuestFactory<PlayerCondition> factory) {
+        log.debug("Registering " + name + " cacheable " + typeName + " type");
+        types.put(name, new ConditionAdapterFactory(factory, null, true));
+    }
+
     @Override
     protected TypeFactory<ConditionAdapter> getFactoryAdapter(
             @Nullable final PlayerQuestFactory<PlayerCondition> playerFactory,
@@ -102,6 +102,19 @@ public class JoinQuitListener implements Listener {
         playerDataStorage.put(profile, new PlayerData(profile));
     }
 
+    /**
+     * Discards the prefetched player data if the login was denied after it was loaded.
+     *
+     * @param event the async event to listen
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void playerPreLoginDenied(final AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == Result.ALLOWED || Bukkit.getPlayer(event.getUniqueId()) != null) {
+            return;
+        }
+        playerDataStorage.remove(profileProvider.getProfile(Bukkit.getOfflinePlayer(event.getUniqueId())));
+    }
+
     /**
      * Starts the player objectives and running conversation on join.
      *
@@ -66,7 +66,7 @@ public class MenuItemProcessor extends RPGMenuProcessor<MenuItemID, MenuItem> {
             descriptions = null;
         }
         final MenuItem.ClickEvents clickEvents = helper.getClickEvents();
-        final Variable<List<ConditionID>> conditions = helper.getID("conditions", ConditionID::new);
+        final Variable<List<ConditionID>> conditions = helper.getID("conditions", ConditionID::of);
         final String rawClose = section.getString("close", config.getString("menu.default_close", "false"));
         final Variable<Boolean> close = new Variable<>(variableProcessor, pack, rawClose, Argument.BOOLEAN);
         final BetonQuestLogger log = loggerFactory.create(MenuItem.class);
@@ -108,7 +108,7 @@ public class MenuItemProcessor extends RPGMenuProcessor<MenuItemID, MenuItem> {
         }
 
         private Variable<List<EventID>> getEvents(final String key) throws QuestException {
-            return getID(key, EventID::new);
+            return getID(key, EventID::of);
         }
     }
 }
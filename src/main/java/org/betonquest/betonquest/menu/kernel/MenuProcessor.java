@@ -136,9 +136,9 @@ public class MenuProcessor extends RPGMenuProcessor<MenuID, Menu> {
                 throw new QuestException("height is invalid!");
             }
             final Message title = messageCreator.parseFromSection(pack, section, "title");
-            final Variable<List<ConditionID>> openConditions = getID("open_conditions", ConditionID::new);
-            final Variable<List<EventID>> openEvents = getID("open_events", EventID::new);
-            final Variable<List<EventID>> closeEvents = getID("close_events", EventID::new);
+            final Variable<List<ConditionID>> openConditions = getID("open_conditions", ConditionID::of);
+            final Variable<List<EventID>> openEvents = getID("open_events", EventID::of);
+            final Variable<List<EventID>> closeEvents = getID("close_events", EventID::of);
 
             final List<Slots> slots = loadSlots(height);
             return new Menu.MenuData(title, height, slots, openConditions, openEvents, closeEvents);
@@ -10,14 +10,19 @@ import org.betonquest.betonquest.api.quest.QuestTypeAPI;
 import org.betonquest.betonquest.id.ConditionID;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * The {@link PlayerHider} can hide others, if both the source and the target {@link Profile} meet all conditions.
@@ -44,6 +49,21 @@ public class PlayerHider {
      */
     private final ProfileProvider profileProvider;
 
+    /**
+     * The plugin instance to hide and show players with.
+     */
+    private final BetonQuest betonQuest;
+
+    /**
+     * The players hidden from each source player by source UUID.
+     */
+    private final Map<UUID, AppliedVisibility> appliedVisibility;
+
+    /**
+     * The UUIDs of the players online in the last update.
+     */
+    private final Set<UUID> lastOnline;
+
     /**
      * Initialize and start a new {@link PlayerHider}.
      *
@@ -54,6 +74,9 @@ public class PlayerHider {
      */
     public PlayerHider(final BetonQuest betonQuest, final QuestTypeAPI questTypeAPI, final ProfileProvider profileProvider) throws QuestException {
         this.profileProvider = profileProvider;
+        this.betonQuest = betonQuest;
+        this.appliedVisibility = new HashMap<>();
+        this.lastOnline = new HashSet<>();
         hiders = new HashMap<>();
         this.questTypeAPI = questTypeAPI;
 
@@ -74,10 +97,32 @@ public class PlayerHider {
     }
 
     /**
-     * Stops the running {@link PlayerHider}.
+     * Stops the running {@link PlayerHider} and shows the players it has hidden.
      */
     public void stop() {
         bukkitTask.cancel();
+        for (final AppliedVisibility applied : appliedVisibility.values()) {
+            if (!applied.player().isOnline()) {
+                continue;
+            }
+            for (final UUID targetID : applied.hidden()) {
+                final Player target = Bukkit.getPlayer(targetID);
+                if (target != null) {
+                    applied.player().showPlayer(betonQuest, target);
+                }
+            }
+        }
+        appliedVisibility.clear();
+    }
+
+    /**
+     * Stops the running {@link PlayerHider} without showing the players it has hidden.
+     * <p>
+     * The hider started after the reload shows the players that should not be hidden anymore in its first update,
+     * so players that stay hidden do not flicker.
+     */
+    public void stopForReload() {
+        bukkitTask.cancel();
     }
 
     private ConditionID[] getConditions(final QuestPackage pack, final String key, @Nullable final String rawConditions) throws QuestException {
@@ -88,7 +133,7 @@ public class PlayerHider {
         final ConditionID[] conditionList = new ConditionID[rawConditionsList.length];
         for (int i = 0; i < rawConditionsList.length; i++) {
             try {
-                conditionList[i] = new ConditionID(pack, rawConditionsList[i]);
+                conditionList[i] = ConditionID.of(pack, rawConditionsList[i]);
             } catch (final QuestException e) {
                 throw new QuestException("Error while loading " + rawConditionsList[i]
                         + " condition for player_hider " + pack.getQuestPath() + "." + key + ": " + e.getMessage(), e);
@@ -99,55 +144,101 @@ public class PlayerHider {
 
     /**
      * Trigger an update for the visibility.
+     * <p>
+     * The conditions of each hider are checked once per profile and the hidden players of each source
+     * are compared with the ones hidden in the last update, so only changed pairs are hidden or shown.
+     * Players that joined since the last update are shown to each source that should see them,
+     * as they may still be hidden from before they quit or from before a reload.
      */
     public void updateVisibility() {
-        final Collection<? extends OnlineProfile> onlineProfiles = profileProvider.getOnlineProfiles();
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = getProfilesToHide(onlineProfiles);
-        for (final OnlineProfile source : onlineProfiles) {
-            updateVisibilityForProfiles(onlineProfiles, source, profilesToHide.get(source));
+        final List<OnlineProfile> profiles = new ArrayList<>(profileProvider.getOnlineProfiles());
+        final BitSet[] hidden = getProfilesToHide(profiles);
+        final Map<UUID, Player> online = new HashMap<>();
+        for (final OnlineProfile profile : profiles) {
+            online.put(profile.getPlayer().getUniqueId(), profile.getPlayer());
+        }
+        final List<Player> joined = new ArrayList<>();
+        for (final Map.Entry<UUID, Player> entry : online.entrySet()) {
+            if (!lastOnline.contains(entry.getKey())) {
+                joined.add(entry.getValue());
+            }
+        }
+        for (int index = 0; index < profiles.size(); index++) {
+            updateVisibilityForProfiles(profiles, online, joined, profiles.get(index).getPlayer(), hidden[index]);
         }
+        appliedVisibility.keySet().retainAll(online.keySet());
+        lastOnline.clear();
+        lastOnline.addAll(online.keySet());
     }
 
-    private void updateVisibilityForProfiles(final Collection<? extends OnlineProfile> onlineProfiles, final OnlineProfile source, @Nullable final List<OnlineProfile> profilesToHide) {
-        if (profilesToHide == null) {
-            for (final OnlineProfile target : onlineProfiles) {
-                source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
+    private void updateVisibilityForProfiles(final List<OnlineProfile> profiles, final Map<UUID, Player> online,
+                                             final List<Player> joined, final Player source, final BitSet profilesToHide) {
+        AppliedVisibility applied = appliedVisibility.get(source.getUniqueId());
+        if (applied == null || !applied.player().equals(source)) {
+            applied = new AppliedVisibility(source, new HashSet<>());
+            appliedVisibility.put(source.getUniqueId(), applied);
+        }
+        final Set<UUID> hiddenNow = new HashSet<>();
+        for (int index = profilesToHide.nextSetBit(0); index >= 0; index = profilesToHide.nextSetBit(index + 1)) {
+            final Player target = profiles.get(index).getPlayer();
+            hiddenNow.add(target.getUniqueId());
+            if (applied.hidden().add(target.getUniqueId())) {
+                source.hidePlayer(betonQuest, target);
             }
-        } else {
-            for (final OnlineProfile target : onlineProfiles) {
-                if (profilesToHide.contains(target)) {
-                    source.getPlayer().hidePlayer(BetonQuest.getInstance(), target.getPlayer());
-                } else {
-                    source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
-                }
+        }
+        final Iterator<UUID> iterator = applied.hidden().iterator();
+        while (iterator.hasNext()) {
+            final UUID targetID = iterator.next();
+            final Player target = online.get(targetID);
+            if (target == null) {
+                iterator.remove();
+            } else if (!hiddenNow.contains(targetID)) {
+                source.showPlayer(betonQuest, target);
+                iterator.remove();
+            }
+        }
+        for (final Player target : joined) {
+            if (!target.equals(source) && !hiddenNow.contains(target.getUniqueId())) {
+                source.showPlayer(betonQuest, target);
             }
         }
     }
 
-    private Map<OnlineProfile, List<OnlineProfile>> getProfilesToHide(final Collection<? extends OnlineProfile> onlineProfiles) {
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = new HashMap<>();
+    private BitSet[] getProfilesToHide(final List<OnlineProfile> profiles) {
+        final int size = profiles.size();
+        final BitSet[] profilesToHide = new BitSet[size];
+        for (int index = 0; index < size; index++) {
+            profilesToHide[index] = new BitSet(size);
+        }
         for (final Map.Entry<ConditionID[], ConditionID[]> hider : hiders.entrySet()) {
-            final List<OnlineProfile> targetProfiles = new ArrayList<>();
-            for (final OnlineProfile target : onlineProfiles) {
-                if (questTypeAPI.conditions(target, hider.getValue())) {
-                    targetProfiles.add(target);
+            final BitSet targetProfiles = new BitSet(size);
+            for (int index = 0; index < size; index++) {
+                if (questTypeAPI.conditions(profiles.get(index), hider.getValue())) {
+                    targetProfiles.set(index);
                 }
             }
-            for (final OnlineProfile source : onlineProfiles) {
-                if (!questTypeAPI.conditions(source, hider.getKey())) {
-                    continue;
+            if (targetProfiles.isEmpty()) {
+                continue;
+            }
+            for (int index = 0; index < size; index++) {
+                if (questTypeAPI.conditions(profiles.get(index), hider.getKey())) {
+                    profilesToHide[index].or(targetProfiles);
                 }
-                final List<OnlineProfile> hiddenProfiles = getOrCreateProfileList(source, profilesToHide);
-                hiddenProfiles.addAll(targetProfiles);
-                hiddenProfiles.remove(source);
-                profilesToHide.put(source, hiddenProfiles);
             }
         }
+        for (int index = 0; index < size; index++) {
+            profilesToHide[index].clear(index);
+        }
         return profilesToHide;
     }
 
-    private List<OnlineProfile> getOrCreateProfileList(final OnlineProfile onlineProfile, final Map<OnlineProfile, List<OnlineProfile>> profilesToHide) {
-        final List<OnlineProfile> profiles = profilesToHide.get(onlineProfile);
-        return profiles == null ? new ArrayList<>() : profiles;
+    /**
+     * The players hidden from a source player in the last update.
+     * Targets that went offline are removed in the next update and shown again when they join, if necessary.
+     *
+     * @param player the source player, to detect when they joined again
+     * @param hidden the UUIDs of the hidden players
+     */
+    private record AppliedVisibility(Player player, Set<UUID> hidden) {
     }
 }
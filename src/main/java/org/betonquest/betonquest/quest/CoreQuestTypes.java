@@ -320,7 +320,7 @@ public class CoreQuestTypes {
         conditionTypes.register("inconversation", new InConversationConditionFactory());
         conditionTypes.register("item", new ItemConditionFactory(loggerFactory, data, dataStorage));
         conditionTypes.register("itemdurability", new ItemDurabilityConditionFactory(loggerFactory, data));
-        conditionTypes.register("journal", new JournalConditionFactory(dataStorage, loggerFactory));
+        conditionTypes.registerCacheable("journal", new JournalConditionFactory(dataStorage, loggerFactory));
         conditionTypes.register("language", new LanguageConditionFactory(dataStorage, languageProvider, pluginMessage));
         conditionTypes.register("location", new LocationConditionFactory(data, loggerFactory));
         conditionTypes.register("looking", new LookingAtConditionFactory(loggerFactory, data));
@@ -328,12 +328,12 @@ public class CoreQuestTypes {
         conditionTypes.register("npcdistance", new NpcDistanceConditionFactory(betonQuest.getFeatureAPI(), data, loggerFactory));
         conditionTypes.registerCombined("npclocation", new NpcLocationConditionFactory(betonQuest.getFeatureAPI(), data));
         conditionTypes.registerCombined("numbercompare", new NumberCompareConditionFactory());
-        conditionTypes.register("objective", new ObjectiveConditionFactory(questTypeAPI));
+        conditionTypes.registerCacheable("objective", new ObjectiveConditionFactory(questTypeAPI));
         conditionTypes.registerCombined("or", new AlternativeConditionFactory(loggerFactory));
         conditionTypes.register("partialdate", new PartialDateConditionFactory());
         conditionTypes.registerCombined("party", new PartyConditionFactory(questTypeAPI, profileProvider));
         conditionTypes.register("permission", new PermissionConditionFactory(loggerFactory, data));
-        conditionTypes.register("point", new PointConditionFactory(dataStorage));
+        conditionTypes.registerCacheable("point", new PointConditionFactory(dataStorage));
         conditionTypes.registerCombined("random", new RandomConditionFactory());
         conditionTypes.register("rating", new ArmorRatingConditionFactory(loggerFactory, data));
         conditionTypes.register("realtime", new RealTimeConditionFactory());
@@ -342,7 +342,7 @@ public class CoreQuestTypes {
         conditionTypes.register("scoretag", new ScoreboardTagConditionFactory(data, loggerFactory));
         conditionTypes.register("sneak", new SneakConditionFactory(loggerFactory, data));
         conditionTypes.register("stage", new StageConditionFactory(questTypeAPI));
-        conditionTypes.register("tag", new TagConditionFactory(dataStorage));
+        conditionTypes.registerCacheable("tag", new TagConditionFactory(dataStorage));
         conditionTypes.registerCombined("testforblock", new BlockConditionFactory(data));
         conditionTypes.registerCombined("time", new TimeConditionFactory(data, variableProcessor));
         conditionTypes.registerCombined("variable", new VariableConditionFactory(loggerFactory, data));
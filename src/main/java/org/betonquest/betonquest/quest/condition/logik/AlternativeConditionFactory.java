@@ -45,7 +45,7 @@ public class AlternativeConditionFactory implements PlayerConditionFactory, Play
 
     private AlternativeCondition parseAlternative(final Instruction instruction) throws QuestException {
         final BetonQuestLogger log = loggerFactory.create(AlternativeCondition.class);
-        final Variable<List<ConditionID>> conditionIDs = instruction.getList(ConditionID::new);
+        final Variable<List<ConditionID>> conditionIDs = instruction.getList(ConditionID::of);
         return new AlternativeCondition(log, conditionIDs, instruction.getPackage());
     }
 }
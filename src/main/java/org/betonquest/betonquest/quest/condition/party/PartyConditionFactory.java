@@ -61,9 +61,9 @@ public class PartyConditionFactory implements PlayerConditionFactory, Playerless
 
     private PartyCondition parse(final Instruction instruction, final Variable<Location> location) throws QuestException {
         final Variable<Number> range = instruction.get(Argument.NUMBER);
-        final Variable<List<ConditionID>> conditions = instruction.getList(ConditionID::new);
-        final Variable<List<ConditionID>> everyone = instruction.getValueList("every", ConditionID::new);
-        final Variable<List<ConditionID>> anyone = instruction.getValueList("any", ConditionID::new);
+        final Variable<List<ConditionID>> conditions = instruction.getList(ConditionID::of);
+        final Variable<List<ConditionID>> everyone = instruction.getValueList("every", ConditionID::of);
+        final Variable<List<ConditionID>> anyone = instruction.getValueList("any", ConditionID::of);
         final Variable<Number> count = instruction.getValue("count", Argument.NUMBER);
 
         return new PartyCondition(location, range, conditions, everyone, anyone, count, questTypeAPI, profileProvider);
@@ -72,13 +72,13 @@ public class FolderEventFactory implements PlayerEventFactory, PlayerlessEventFa
     }
 
     private NullableEventAdapter createFolderEvent(final Instruction instruction) throws QuestException {
-        final Variable<List<EventID>> events = instruction.getList(EventID::new);
+        final Variable<List<EventID>> events = instruction.getList(EventID::of);
         final Variable<Number> delay = instruction.getValue("delay", Argument.NUMBER);
         final Variable<Number> period = instruction.getValue("period", Argument.NUMBER);
         final Variable<Number> random = instruction.getValue("random", Argument.NUMBER);
         final Variable<TimeUnit> timeUnit = instruction.getValue("unit", this::getTimeUnit, TimeUnit.SECONDS);
         final boolean cancelOnLogout = instruction.hasArgument("cancelOnLogout");
-        final Variable<List<ConditionID>> cancelConditions = instruction.getValueList("cancelConditions", ConditionID::new);
+        final Variable<List<ConditionID>> cancelConditions = instruction.getValueList("cancelConditions", ConditionID::of);
         return new NullableEventAdapter(new FolderEvent(betonQuest, loggerFactory.create(FolderEvent.class), pluginManager,
                 events,
                 questTypeAPI, new Random(), delay, period, random, timeUnit, cancelOnLogout, cancelConditions));
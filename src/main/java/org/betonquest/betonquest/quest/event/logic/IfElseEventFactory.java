@@ -42,12 +42,12 @@ public class IfElseEventFactory implements PlayerEventFactory, PlayerlessEventFa
     }
 
     private NullableEventAdapter createIfElseEvent(final Instruction instruction) throws QuestException {
-        final Variable<ConditionID> condition = instruction.get(ConditionID::new);
-        final Variable<EventID> event = instruction.get(EventID::new);
+        final Variable<ConditionID> condition = instruction.get(ConditionID::of);
+        final Variable<EventID> event = instruction.get(EventID::of);
         if (!"else".equalsIgnoreCase(instruction.next())) {
             throw new QuestException("Missing 'else' keyword");
         }
-        final Variable<EventID> elseEvent = instruction.get(EventID::new);
+        final Variable<EventID> elseEvent = instruction.get(EventID::of);
         return new NullableEventAdapter(new IfElseEvent(condition, event, elseEvent, questTypeAPI));
     }
 }
@@ -51,8 +51,8 @@ public class PartyEventFactory implements PlayerEventFactory {
     public PlayerEvent parsePlayer(final Instruction instruction) throws QuestException {
         final Variable<Number> range = instruction.get(Argument.NUMBER);
         final Variable<Number> amount = instruction.getValue("amount", Argument.NUMBER);
-        final Variable<List<ConditionID>> conditions = instruction.getList(ConditionID::new);
-        final Variable<List<EventID>> events = instruction.getList(EventID::new);
+        final Variable<List<ConditionID>> conditions = instruction.getList(ConditionID::of);
+        final Variable<List<EventID>> events = instruction.getList(EventID::of);
         return new OnlineEventAdapter(
                 new PartyEvent(questTypeAPI, profileProvider, range, amount, conditions, events),
                 loggerFactory.create(PartyEvent.class),
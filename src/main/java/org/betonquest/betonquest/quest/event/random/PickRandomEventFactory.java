@@ -58,7 +58,7 @@ public class PickRandomEventFactory implements PlayerEventFactory, PlayerlessEve
 
             final String weightString = matcher.group("weight");
             final String eventString = matcher.group("event");
-            final EventID eventID = new EventID(instruction.getPackage(), eventString);
+            final EventID eventID = EventID.of(instruction.getPackage(), eventString);
             final double weight = Argument.NUMBER.apply(weightString).doubleValue();
             return new RandomEvent(eventID, weight);
         });
@@ -40,8 +40,8 @@ public class RunForAllEventFactory implements PlayerlessEventFactory {
 
     @Override
     public PlayerlessEvent parsePlayerless(final Instruction instruction) throws QuestException {
-        final Variable<List<EventID>> events = instruction.getValueList("events", EventID::new);
-        final Variable<List<ConditionID>> conditions = instruction.getValueList("where", ConditionID::new);
+        final Variable<List<EventID>> events = instruction.getValueList("events", EventID::of);
+        final Variable<List<ConditionID>> conditions = instruction.getValueList("where", ConditionID::of);
         return new RunForAllEvent(profileProvider::getOnlineProfiles, questTypeAPI, events, conditions);
     }
 }
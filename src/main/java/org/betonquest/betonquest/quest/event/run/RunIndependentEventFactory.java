@@ -31,7 +31,7 @@ public class RunIndependentEventFactory implements PlayerlessEventFactory {
 
     @Override
     public PlayerlessEvent parsePlayerless(final Instruction instruction) throws QuestException {
-        final Variable<List<EventID>> events = instruction.getValueList("events", EventID::new);
+        final Variable<List<EventID>> events = instruction.getValueList("events", EventID::of);
         return new RunIndependentEvent(questTypeAPI, events);
     }
 }
@@ -27,7 +27,7 @@ public class CommandObjectiveFactory implements ObjectiveFactory {
         final boolean ignoreCase = instruction.hasArgument("ignoreCase");
         final boolean exact = instruction.hasArgument("exact");
         final boolean cancel = instruction.hasArgument("cancel");
-        final Variable<List<EventID>> failEvents = instruction.getValueList("failEvents", EventID::new);
+        final Variable<List<EventID>> failEvents = instruction.getValueList("failEvents", EventID::of);
         return new CommandObjective(instruction, command, ignoreCase, exact, cancel, failEvents);
     }
 }
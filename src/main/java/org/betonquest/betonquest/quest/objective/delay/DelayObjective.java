@@ -57,7 +57,7 @@ public class DelayObjective extends Objective {
      */
     public DelayObjective(final Instruction instruction, final Variable<Number> interval,
                           final Variable<Number> delay) throws QuestException {
-        super(instruction, DelayData.class);
+        super(instruction, DelayData::new);
         this.interval = interval;
         this.delay = delay;
     }
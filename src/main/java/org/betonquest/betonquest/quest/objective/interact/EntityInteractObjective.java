@@ -124,7 +124,7 @@ public class EntityInteractObjective extends CountingObjective {
                                    @Nullable final Variable<String> realName, @Nullable final EquipmentSlot slot,
                                    final Variable<EntityType> mobType, @Nullable final Variable<String> marked,
                                    final Variable<Interaction> interaction, final boolean cancel) throws QuestException {
-        super(instruction, EntityInteractData.class, targetAmount, "mobs_to_click");
+        super(instruction, EntityInteractData::new, targetAmount, "mobs_to_click");
         this.loc = loc;
         this.range = range;
         this.customName = customName;
@@ -25,7 +25,7 @@ public class KillPlayerObjectiveFactory implements ObjectiveFactory {
     public Objective parseInstruction(final Instruction instruction) throws QuestException {
         final Variable<Number> targetAmount = instruction.get(Argument.NUMBER_NOT_LESS_THAN_ONE);
         final Variable<String> name = instruction.getValue("name", Argument.STRING);
-        final Variable<List<ConditionID>> required = instruction.getValueList("required", ConditionID::new);
+        final Variable<List<ConditionID>> required = instruction.getValueList("required", ConditionID::of);
         return new KillPlayerObjective(instruction, targetAmount, name, required);
     }
 }
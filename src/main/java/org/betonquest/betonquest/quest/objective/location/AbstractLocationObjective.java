@@ -1,38 +1,43 @@
 package org.betonquest.betonquest.quest.objective.location;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
-import org.bukkit.event.player.PlayerTeleportEvent;
-import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The AbstractLocationObjective class extends the Objective class and implements the Listener interface
  * to handle all movements of players in the game.
  * This abstract class serves as a base for objectives that are completed
  * when a player enters or exits a specific location.
- * It listens for various player events such as join, quit, death, respawn, teleport, and movement
- * to check the player's location.
+ * It listens for various player events such as join, quit, death and respawn to check the player's location.
+ * Movement, teleports and vehicle rides are dispatched by the shared {@link LocationObjectiveIndex}.
  */
 public abstract class AbstractLocationObjective extends Objective implements Listener {
 
+    /**
+     * The index shared by all running location objectives.
+     */
+    private static final LocationObjectiveIndex INDEX = new LocationObjectiveIndex();
+
     /**
      * Should entry be checked instead of being inside the location of not.
      */
@@ -103,38 +108,22 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
     }
 
     /**
-     * The onPlayerTeleport method listens for the PlayerTeleportEvent and checks the player's location.
-     *
-     * @param event the PlayerTeleportEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerTeleport(final PlayerTeleportEvent event) {
-        onPlayerMove(event);
-    }
-
-    /**
-     * The onPlayerMove method listens for the PlayerMoveEvent and checks the player's location.
+     * Checks a move of the player that was dispatched by the {@link LocationObjectiveIndex}.
+     * If the previous state of the player is unknown, it is taken from the location before the move.
      *
-     * @param event the PlayerMoveEvent to be used in the method
+     * @param player the player that moved
+     * @param from   the location before the move
+     * @param to     the location after the move
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-        checkLocation(event.getPlayer(), event.getTo());
-    }
-
-    /**
-     * The onVehicleMove method listens for the VehicleMoveEvent and checks the player's location.
-     *
-     * @param event the VehicleMoveEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onVehicleMove(final VehicleMoveEvent event) {
-        final List<Entity> passengers = event.getVehicle().getPassengers();
-        for (final Entity passenger : passengers) {
-            if (passenger instanceof final Player player) {
-                checkLocation(player, event.getTo());
-            }
+    /* default */ void checkMove(final Player player, final Location from, final Location to) {
+        final OnlineProfile onlineProfile = profileProvider.getProfile(player);
+        if (!containsPlayer(onlineProfile)) {
+            return;
+        }
+        if ((entry || exit) && !playersInsideRegion.containsKey(onlineProfile.getProfileUUID())) {
+            playersInsideRegion.put(onlineProfile.getProfileUUID(), isInsideHandleException(from, onlineProfile));
         }
+        checkInside(onlineProfile, isInsideHandleException(to, onlineProfile));
     }
 
     private void checkLocation(final Player player, final Location location) {
@@ -142,8 +131,10 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
         if (!containsPlayer(onlineProfile)) {
             return;
         }
+        checkInside(onlineProfile, isInsideHandleException(location, onlineProfile));
+    }
 
-        final boolean toInside = isInsideHandleException(location, onlineProfile);
+    private void checkInside(final OnlineProfile onlineProfile, final boolean toInside) {
         if (!entry && !exit) {
             if (toInside && checkConditions(onlineProfile)) {
                 completeObjective(onlineProfile);
@@ -175,6 +166,39 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
         return toInsideAtomic.get();
     }
 
+    @Override
+    public void start() {
+        if (INDEX.isEmpty()) {
+            Bukkit.getPluginManager().registerEvents(INDEX, BetonQuest.getInstance());
+        }
+        final AtomicReference<LocationObjectiveIndex.Area> area = new AtomicReference<>();
+        qeHandler.handle(() -> area.set(getArea()));
+        INDEX.add(this, area.get());
+        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+    }
+
+    @Override
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        INDEX.remove(this);
+        if (INDEX.isEmpty()) {
+            HandlerList.unregisterAll(INDEX);
+        }
+    }
+
+    /**
+     * Gets the fixed area this objective checks, so moves outside of it do not need to be checked.
+     * Only return an area if it is the same for all players and {@link #isInside(OnlineProfile, Location)}
+     * is false for every location outside of it.
+     *
+     * @return the area or null if every move needs to be checked
+     * @throws QuestException if the area could not be resolved
+     */
+    @Nullable
+    protected LocationObjectiveIndex.Area getArea() throws QuestException {
+        return null;
+    }
+
     /**
      * Checks if the player at the given location is inside the location.
      *
@@ -1,14 +1,12 @@
 package org.betonquest.betonquest.quest.objective.location;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.variable.Variable;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Player has to reach certain radius around the specified location.
@@ -54,13 +52,12 @@ public class LocationObjective extends AbstractLocationObjective {
     }
 
     @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
+    @Nullable
+    protected LocationObjectiveIndex.Area getArea() throws QuestException {
+        if (!loc.isConstant() || !range.isConstant()) {
+            return null;
+        }
+        return LocationObjectiveIndex.Area.around(loc.getValue(null), range.getValue(null).doubleValue());
     }
 
     @Override
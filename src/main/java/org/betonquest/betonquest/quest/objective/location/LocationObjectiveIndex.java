@@ -0,0 +1,285 @@
+package org.betonquest.betonquest.quest.objective.location;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Shared spatial index of all running {@link AbstractLocationObjective}s.
+ * <p>
+ * Objectives with a fixed area are stored in chunk buckets of their world, so a move is only tested against the
+ * objectives whose area contains the previous or the new location. Objectives without a fixed area, for example
+ * because their location depends on the player, are tested on every move.
+ * Moves that stay within the same block, like turning the head, are not tested at all.
+ */
+public class LocationObjectiveIndex implements Listener {
+    /**
+     * Amount of bits to shift a block coordinate to get the chunk coordinate.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * Maximum amount of chunks an area may span to be stored in buckets.
+     * Larger areas are tested on every move instead of filling thousands of buckets.
+     */
+    private static final int MAX_INDEXED_CHUNKS = 1024;
+
+    /**
+     * Objectives that are tested on every move.
+     */
+    private final List<AbstractLocationObjective> unbounded;
+
+    /**
+     * Objectives by world and chunk key.
+     */
+    private final Map<UUID, Map<Long, List<IndexedObjective>>> buckets;
+
+    /**
+     * The areas the objectives were stored with, to remove them again.
+     */
+    private final Map<AbstractLocationObjective, Area> areas;
+
+    /**
+     * Creates a new empty index.
+     */
+    public LocationObjectiveIndex() {
+        this.unbounded = new CopyOnWriteArrayList<>();
+        this.buckets = new HashMap<>();
+        this.areas = new HashMap<>();
+    }
+
+    /**
+     * Adds an objective to the index.
+     *
+     * @param objective the objective to add
+     * @param area      the fixed area the objective checks or null if it has to be tested on every move
+     */
+    public void add(final AbstractLocationObjective objective, @Nullable final Area area) {
+        remove(objective);
+        if (area == null || area.chunkCount() > MAX_INDEXED_CHUNKS) {
+            unbounded.add(objective);
+            return;
+        }
+        areas.put(objective, area);
+        final IndexedObjective indexed = new IndexedObjective(objective, area.box());
+        final Map<Long, List<IndexedObjective>> worldBuckets = buckets.computeIfAbsent(area.world(), world -> new HashMap<>());
+        area.forEachChunk(key -> worldBuckets.computeIfAbsent(key, chunk -> new CopyOnWriteArrayList<>()).add(indexed));
+    }
+
+    /**
+     * Removes an objective from the index.
+     *
+     * @param objective the objective to remove
+     */
+    public void remove(final AbstractLocationObjective objective) {
+        unbounded.remove(objective);
+        final Area area = areas.remove(objective);
+        if (area == null) {
+            return;
+        }
+        final Map<Long, List<IndexedObjective>> worldBuckets = buckets.get(area.world());
+        if (worldBuckets == null) {
+            return;
+        }
+        area.forEachChunk(key -> {
+            final List<IndexedObjective> bucket = worldBuckets.get(key);
+            if (bucket != null) {
+                bucket.removeIf(indexed -> indexed.objective() == objective);
+                if (bucket.isEmpty()) {
+                    worldBuckets.remove(key);
+                }
+            }
+        });
+        if (worldBuckets.isEmpty()) {
+            buckets.remove(area.world());
+        }
+    }
+
+    /**
+     * Checks if the index contains no objectives.
+     *
+     * @return true if no objective is indexed
+     */
+    public boolean isEmpty() {
+        return unbounded.isEmpty() && areas.isEmpty();
+    }
+
+    /**
+     * Gets the objectives that have to be tested for a move between two locations.
+     *
+     * @param from the location before the move
+     * @param to   the location after the move
+     * @return the objectives whose area contains one of the locations and all objectives without a fixed area
+     */
+    public Collection<AbstractLocationObjective> getCandidates(final Location from, final Location to) {
+        final Set<AbstractLocationObjective> candidates = new LinkedHashSet<>(unbounded);
+        addBucketCandidates(from, candidates);
+        addBucketCandidates(to, candidates);
+        return candidates;
+    }
+
+    private void addBucketCandidates(final Location location, final Set<AbstractLocationObjective> candidates) {
+        final World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        final Map<Long, List<IndexedObjective>> worldBuckets = buckets.get(world.getUID());
+        if (worldBuckets == null) {
+            return;
+        }
+        final List<IndexedObjective> bucket = worldBuckets.get(chunkKey(location.getBlockX() >> CHUNK_SHIFT, location.getBlockZ() >> CHUNK_SHIFT));
+        if (bucket == null) {
+            return;
+        }
+        for (final IndexedObjective indexed : bucket) {
+            if (indexed.box().contains(location.getX(), location.getY(), location.getZ())) {
+                candidates.add(indexed.objective());
+            }
+        }
+    }
+
+    /**
+     * Dispatches player moves to the candidate objectives.
+     *
+     * @param event the move event
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        dispatch(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    /**
+     * Dispatches player teleports to the candidate objectives.
+     *
+     * @param event the teleport event
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerTeleport(final PlayerTeleportEvent event) {
+        dispatch(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    /**
+     * Dispatches vehicle moves of player passengers to the candidate objectives.
+     *
+     * @param event the vehicle move event
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onVehicleMove(final VehicleMoveEvent event) {
+        final List<Entity> passengers = event.getVehicle().getPassengers();
+        for (final Entity passenger : passengers) {
+            if (passenger instanceof final Player player) {
+                dispatch(player, event.getFrom(), event.getTo());
+            }
+        }
+    }
+
+    private void dispatch(final Player player, final Location from, @Nullable final Location to) {
+        if (to == null || isSameBlock(from, to)) {
+            return;
+        }
+        for (final AbstractLocationObjective objective : getCandidates(from, to)) {
+            objective.checkMove(player, from, to);
+        }
+    }
+
+    /**
+     * Checks if two locations are in the same block of the same world.
+     *
+     * @param from the first location
+     * @param to   the second location
+     * @return true if the locations are in the same block
+     */
+    public static boolean isSameBlock(final Location from, final Location to) {
+        return from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld();
+    }
+
+    private static long chunkKey(final int chunkX, final int chunkZ) {
+        return (long) chunkX << 32 | chunkZ & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * A fixed area that an objective checks.
+     *
+     * @param world the UUID of the world the area is in
+     * @param box   the box that contains all locations the objective considers inside
+     */
+    public record Area(UUID world, BoundingBox box) {
+        /**
+         * Creates the area of a sphere.
+         *
+         * @param center the center of the sphere
+         * @param radius the radius of the sphere
+         * @return the area around the sphere or null if the center has no world
+         */
+        @Nullable
+        public static Area around(final Location center, final double radius) {
+            final World world = center.getWorld();
+            if (world == null) {
+                return null;
+            }
+            return new Area(world.getUID(), BoundingBox.of(center, radius, radius, radius));
+        }
+
+        private long chunkCount() {
+            final long width = (floor(box.getMaxX()) >> CHUNK_SHIFT) - (floor(box.getMinX()) >> CHUNK_SHIFT) + 1;
+            final long depth = (floor(box.getMaxZ()) >> CHUNK_SHIFT) - (floor(box.getMinZ()) >> CHUNK_SHIFT) + 1;
+            return width * depth;
+        }
+
+        private void forEachChunk(final ChunkConsumer consumer) {
+            final int minX = floor(box.getMinX()) >> CHUNK_SHIFT;
+            final int maxX = floor(box.getMaxX()) >> CHUNK_SHIFT;
+            final int minZ = floor(box.getMinZ()) >> CHUNK_SHIFT;
+            final int maxZ = floor(box.getMaxZ()) >> CHUNK_SHIFT;
+            for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+                for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+                    consumer.accept(chunkKey(chunkX, chunkZ));
+                }
+            }
+        }
+
+        private static int floor(final double value) {
+            return (int) Math.floor(value);
+        }
+    }
+
+    /**
+     * Accepts chunk keys without boxing them.
+     */
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        /**
+         * Accepts a chunk key.
+         *
+         * @param key the chunk key
+         */
+        void accept(long key);
+    }
+
+    /**
+     * An objective stored in a chunk bucket.
+     *
+     * @param objective the objective
+     * @param box       the box of the objective, to filter out the parts of the chunk it does not cover
+     */
+    private record IndexedObjective(AbstractLocationObjective objective, BoundingBox box) {
+    }
+}
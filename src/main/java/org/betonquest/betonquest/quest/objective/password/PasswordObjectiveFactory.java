@@ -28,7 +28,7 @@ public class PasswordObjectiveFactory implements ObjectiveFactory {
         final Pattern regex = Pattern.compile(pattern, regexFlags);
         final String prefix = instruction.getValue("prefix");
         final String passwordPrefix = prefix == null || prefix.isEmpty() ? prefix : prefix + ": ";
-        final Variable<List<EventID>> failEvents = instruction.getValueList("fail", EventID::new);
+        final Variable<List<EventID>> failEvents = instruction.getValueList("fail", EventID::of);
         return new PasswordObjective(instruction, regex, passwordPrefix, failEvents);
     }
 }
@@ -36,7 +36,7 @@ public class StageObjective extends Objective {
      * @throws QuestException if the instruction is invalid
      */
     public StageObjective(final Instruction instruction, final StageMap stageMap, final boolean preventCompletion) throws QuestException {
-        super(instruction, StageData.class);
+        super(instruction, StageData::new);
         this.stageMap = stageMap;
         this.preventCompletion = preventCompletion;
     }
@@ -37,7 +37,7 @@ public class ConditionVariableFactory implements PlayerVariableFactory {
 
     @Override
     public PlayerVariable parsePlayer(final Instruction instruction) throws QuestException {
-        final Variable<ConditionID> conditionId = instruction.get(ConditionID::new);
+        final Variable<ConditionID> conditionId = instruction.get(ConditionID::of);
         final boolean papiMode = instruction.hasArgument("papiMode");
         return new ConditionVariable(pluginMessage, conditionId, papiMode, questTypeAPI);
     }
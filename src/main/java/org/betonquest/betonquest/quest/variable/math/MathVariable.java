@@ -3,7 +3,7 @@ package org.betonquest.betonquest.quest.variable.math;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.api.quest.variable.nullable.NullableVariable;
-import org.betonquest.betonquest.util.math.tokens.Token;
+import org.betonquest.betonquest.util.math.CompiledExpression;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Locale;
@@ -13,18 +13,21 @@ import java.util.Locale;
  */
 public class MathVariable implements NullableVariable {
     /**
-     * The full calculation token.
+     * The largest absolute value that is formatted as integer without {@link String#format}.
      */
-    @SuppressWarnings("deprecation")
-    private final Token calculation;
+    private static final double INTEGER_LIMIT = 1E15;
+
+    /**
+     * The compiled calculation.
+     */
+    private final CompiledExpression calculation;
 
     /**
      * Create a math variable from the given calculation.
      *
-     * @param calculation calculation to parse
+     * @param calculation compiled calculation
      */
-    @SuppressWarnings("deprecation")
-    public MathVariable(final Token calculation) {
+    public MathVariable(final CompiledExpression calculation) {
         this.calculation = calculation;
     }
 
@@ -32,11 +35,14 @@ public class MathVariable implements NullableVariable {
     public String getValue(@Nullable final Profile profile) throws QuestException {
         final double value;
         try {
-            value = this.calculation.resolve(profile);
+            value = this.calculation.evaluate(profile);
         } catch (final QuestException e) {
             throw new QuestException("Error while resolving math variable: " + e.getMessage(), e);
         }
         if (value % 1 == 0) {
+            if (Math.abs(value) < INTEGER_LIMIT && Double.compare(value, -0.0) != 0) {
+                return Long.toString((long) value);
+            }
             return String.format(Locale.US, "%.0f", value);
         }
         return String.valueOf(value);
@@ -8,6 +8,7 @@ import org.betonquest.betonquest.api.quest.variable.PlayerlessVariableFactory;
 import org.betonquest.betonquest.api.quest.variable.nullable.NullableVariableAdapter;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.kernel.processor.quest.VariableProcessor;
+import org.betonquest.betonquest.util.math.CompiledExpression;
 import org.betonquest.betonquest.util.math.Tokenizer;
 import org.betonquest.betonquest.util.math.tokens.Token;
 
@@ -57,6 +58,6 @@ public class MathVariableFactory implements PlayerVariableFactory, PlayerlessVar
         }
         final String expression = expressionMatcher.group("expression");
         final Token token = new Tokenizer(variableProcessor, instruction.getPackage()).tokenize(expression);
-        return new NullableVariableAdapter(new MathVariable(token));
+        return new NullableVariableAdapter(new MathVariable(CompiledExpression.compile(token)));
     }
 }
@@ -2,19 +2,47 @@ package org.betonquest.betonquest.schedule;
 
 import org.betonquest.betonquest.api.config.FileConfigAccessor;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Cache that holds the last execution time of schedules.
  * Only one instance may exist.
+ * <p>
+ * The execution times are kept in memory and written to the cache file asynchronously,
+ * coalescing all changes made while a write is pending into a single write.
+ * The file is replaced atomically, so a crash leaves either the previous or the new cache on disk, never a partial one.
  */
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedAtMethodLevel"})
 public class LastExecutionCache {
+    /**
+     * Seconds to wait for a pending write when closing the cache.
+     */
+    private static final long CLOSE_TIMEOUT = 10;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -25,6 +53,26 @@ public class LastExecutionCache {
      */
     private final FileConfigAccessor cache;
 
+    /**
+     * Executor writing the cache file.
+     */
+    private final ExecutorService writer;
+
+    /**
+     * The cached execution times by full schedule ID.
+     */
+    private final Map<String, String> executionTimes;
+
+    /**
+     * Whether the execution times changed since the last write.
+     */
+    private final AtomicBoolean dirty;
+
+    /**
+     * Whether the last write failed, so the next write has to happen even without a new change.
+     */
+    private boolean writeFailed;
+
     /**
      * Create a new execution cache instance for a given schedule.
      *
@@ -32,22 +80,74 @@ public class LastExecutionCache {
      * @param cache the config accessor for the cache
      */
     public LastExecutionCache(final BetonQuestLogger log, final FileConfigAccessor cache) {
+        this(log, cache, Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "BetonQuest Schedule Cache");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Create a new execution cache instance for a given schedule.
+     *
+     * @param log    the logger that will be used for logging
+     * @param cache  the config accessor for the cache
+     * @param writer the executor writing the cache file, shut down when the cache is closed
+     */
+    public LastExecutionCache(final BetonQuestLogger log, final FileConfigAccessor cache, final ExecutorService writer) {
         this.log = log;
         this.cache = cache;
+        this.writer = writer;
+        this.executionTimes = new ConcurrentHashMap<>();
+        this.dirty = new AtomicBoolean();
+        load();
+    }
+
+    private void load() {
+        final ConfigurationSection config = cache.getConfig();
+        final Map<String, String> loaded = new TreeMap<>();
+        for (final String key : config.getKeys(true)) {
+            final String value = config.getString(key);
+            if (value != null && !config.isConfigurationSection(key)) {
+                loaded.put(key, value);
+            }
+        }
+        executionTimes.clear();
+        executionTimes.putAll(loaded);
     }
 
     /**
      * reload execution cache in case it was modified externally.
+     * Pending changes are written before reloading.
      */
     public void reload() {
+        flush();
         try {
             cache.reload();
+            load();
             log.debug("Successfully reloaded schedule cache.");
         } catch (final IOException e) {
             log.error("Could not reload schedule cache: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Writes all pending changes and stops the asynchronous writing.
+     * Changes made afterward are written immediately.
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
+                log.warn("Timed out waiting for the schedule cache to be written, writing it again.");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for the schedule cache to be written, writing it again.", e);
+        }
+        flush();
+    }
+
     /**
      * Save the last execution time of a schedule as raw string to the cache.
      *
@@ -55,14 +155,56 @@ public class LastExecutionCache {
      * @param rawTime  raw string to cache
      */
     public void cacheRawExecutionTime(final ScheduleID schedule, final String rawTime) {
-        cache.getConfig().set(schedule.getFullID(), rawTime);
+        executionTimes.put(schedule.getFullID(), rawTime);
+        if (dirty.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::flush);
+            } catch (final RejectedExecutionException e) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Writes the execution times to the cache file if they changed since the last write or the last write failed.
+     * A failed write leaves the changes unmarked, so the next change schedules a new write again.
+     */
+    private synchronized void flush() {
+        if (!dirty.getAndSet(false) && !writeFailed) {
+            return;
+        }
+        final YamlConfiguration config = new YamlConfiguration();
+        new TreeMap<>(executionTimes).forEach(config::set);
         try {
-            cache.save();
+            write(cache.getConfigurationFile().toPath(), config.saveToString());
+            writeFailed = false;
         } catch (final IOException e) {
+            writeFailed = true;
             log.error("Could not save schedule cache: " + e.getMessage(), e);
         }
     }
 
+    private void write(final Path target, final String content) throws IOException {
+        final Path directory = target.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
     /**
      * Save the last execution time of a schedule to the cache in ISO-8601 format
      * (see {@link DateTimeFormatter#ISO_INSTANT}).
@@ -81,7 +223,7 @@ public class LastExecutionCache {
      * @return optional containing the cached string, empty if nothing was cached
      */
     public Optional<String> getRawLastExecutionTime(final ScheduleID schedule) {
-        return Optional.ofNullable(cache.getConfig().getString(schedule.getFullID()));
+        return Optional.ofNullable(executionTimes.get(schedule.getFullID()));
     }
 
     /**
@@ -13,11 +13,13 @@ import org.bukkit.block.data.BlockData;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -43,8 +45,18 @@ public class BlockSelector {
 
     private final List<Material> materials;
 
+    /**
+     * The {@link #materials} for constant time lookup.
+     */
+    private final Set<Material> materialSet;
+
     private final Map<String, String> states;
 
+    /**
+     * The {@link #states} compiled for matching.
+     */
+    private final List<StateMatcher> stateMatchers;
+
     private final Random random = new Random();
 
     /**
@@ -61,6 +73,8 @@ public class BlockSelector {
         if (materials.isEmpty()) {
             throw new QuestException("Invalid selector, no material found for '" + block + "'!");
         }
+        materialSet = EnumSet.copyOf(materials);
+        stateMatchers = compileStates(states);
     }
 
     /**
@@ -156,7 +170,7 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector}
      */
     public boolean match(final Material material) {
-        return materials.contains(material);
+        return materialSet.contains(material);
     }
 
     /**
@@ -169,32 +183,56 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector} and the {@link BlockState} matches.
      */
     public boolean match(final Block block, final boolean exactMatch) {
-        if (!match(block.getBlockData().getMaterial())) {
+        final BlockData blockData = block.getBlockData();
+        if (!match(blockData.getMaterial())) {
             return false;
         }
+        if (stateMatchers.isEmpty() && !exactMatch) {
+            return true;
+        }
 
-        final Map<String, String> blockStates = getStates(getSelectorParts(block.getBlockData().getAsString())[2]);
-        if (states.isEmpty()) {
-            return !exactMatch || blockStates.isEmpty();
+        final String blockDataString = blockData.getAsString();
+        final int statesStart = blockDataString.indexOf('[');
+        if (statesStart < 0) {
+            return stateMatchers.isEmpty();
         }
-        if (exactMatch && states.size() != blockStates.size()) {
+        final Map<String, String> blockStates = getStates(blockDataString.substring(statesStart + 1, blockDataString.length() - 1)
+                .toLowerCase(Locale.ROOT));
+        if (exactMatch && stateMatchers.size() != blockStates.size()) {
             return false;
         }
 
-        for (final Map.Entry<String, String> entry : states.entrySet()) {
-            final String singleState = entry.getKey();
-            if (!blockStates.containsKey(singleState)) {
+        for (final StateMatcher stateMatcher : stateMatchers) {
+            final String blockState = blockStates.get(stateMatcher.key());
+            if (blockState == null || !stateMatcher.matches(blockState)) {
                 return false;
             }
+        }
+        return true;
+    }
+
+    private List<StateMatcher> compileStates(final Map<String, String> states) throws QuestException {
+        final List<StateMatcher> matchers = new ArrayList<>(states.size());
+        for (final Map.Entry<String, String> entry : states.entrySet()) {
+            final String value = entry.getValue();
+            if (isLiteral(value)) {
+                matchers.add(new StateMatcher(entry.getKey(), value, null));
+                continue;
+            }
+            try {
+                matchers.add(new StateMatcher(entry.getKey(), value, Pattern.compile("^" + value + "$")));
+            } catch (final PatternSyntaxException exception) {
+                throw new QuestException("Invalid Regex in block state '" + entry.getKey() + "': " + exception.getMessage(), exception);
+            }
+        }
+        return matchers;
+    }
 
-            final String blockState = blockStates.get(singleState);
-            final String state = entry.getValue();
-            if (!blockState.equals(state)) {
-                final Pattern statePattern = Pattern.compile("^" + state + "$");
-                final Matcher stateMatcher = statePattern.matcher(blockState);
-                if (!stateMatcher.find()) {
-                    return false;
-                }
+    private boolean isLiteral(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            if (!Character.isLetterOrDigit(character) && character != '_') {
+                return false;
             }
         }
         return true;
@@ -298,4 +336,23 @@ public class BlockSelector {
         }
         return states;
     }
+
+    /**
+     * A block state of the selector, compiled once for matching.
+     *
+     * @param key     the name of the block state
+     * @param value   the expected value
+     * @param pattern the pattern the value has to be found in, null if the value is compared exactly
+     */
+    private record StateMatcher(String key, String value, @Nullable Pattern pattern) {
+        /**
+         * Checks if the value of a block's state matches.
+         *
+         * @param blockState the value of the block's state
+         * @return true if the value matches
+         */
+        private boolean matches(final String blockState) {
+            return value.equals(blockState) || pattern != null && pattern.matcher(blockState).find();
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package org.betonquest.betonquest.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Maps values in parallel on a dedicated, bounded pool of worker threads.
+ * <p>
+ * Loading steps may block on file access, so they must not run on the common fork join pool,
+ * which is shared with other plugins. The pool is created for a single call and shut down afterward.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public final class ParallelLoader {
+    private ParallelLoader() {
+    }
+
+    /**
+     * Maps all values in parallel and waits for the results.
+     * If a mapping throws an exception, it is rethrown on the calling thread.
+     *
+     * @param name   the name of the worker threads
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <T>    the type of the values
+     * @param <R>    the type of the results
+     * @return the results in the order of the values, may contain {@code null} if the mapper returned it
+     */
+    public static <T, R> List<R> map(final String name, final Collection<T> values, final Function<T, R> mapper) {
+        final int threads = Math.min(values.size(), Runtime.getRuntime().availableProcessors());
+        if (threads <= 1) {
+            final List<R> results = new ArrayList<>(values.size());
+            for (final T value : values) {
+                results.add(mapper.apply(value));
+            }
+            return results;
+        }
+        final AtomicInteger counter = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, name + " #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<R>> futures = new ArrayList<>(values.size());
+            for (final T value : values) {
+                futures.add(executor.submit(() -> mapper.apply(value)));
+            }
+            final List<R> results = new ArrayList<>(futures.size());
+            for (final Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof final Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(name + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
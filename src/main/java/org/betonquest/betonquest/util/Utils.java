@@ -19,8 +19,11 @@ import org.bukkit.ChatColor;
 import org.bukkit.Color;
 import org.bukkit.DyeColor;
 import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
@@ -72,6 +75,11 @@ public final class Utils {
         return true;
     };
 
+    /**
+     * Key of the marker stamped on generated quest items.
+     */
+    public static final NamespacedKey QUEST_ITEM_KEY = Objects.requireNonNull(NamespacedKey.fromString("betonquest:quest_item"));
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -179,15 +187,42 @@ public final class Utils {
 
     /**
      * Checks if the ItemStack is a quest item.
+     * <p>
+     * Quest items are recognized by their {@link #QUEST_ITEM_KEY marker}.
+     * Items generated before the marker existed are recognized by the quest item lore line,
+     * unless this fallback is disabled with {@code item.quest.lore_fallback}.
      *
      * @param item ItemStack to check
      * @return true if the supplied ItemStack is a quest item, false otherwise
      */
     public static boolean isQuestItem(@Nullable final ItemStack item) {
-        if (item == null || item.getType().isAir()) {
+        if (item == null || item.getType().isAir() || !item.hasItemMeta()) {
             return false;
         }
-        final List<Component> lore = item.getItemMeta().lore();
+        final ItemMeta meta = item.getItemMeta();
+        if (meta.getPersistentDataContainer().has(QUEST_ITEM_KEY, PersistentDataType.BYTE)) {
+            return true;
+        }
+        return isQuestItemLoreFallbackEnabled() && hasQuestItemLore(meta);
+    }
+
+    /**
+     * Checks if quest items without marker are still recognized by their lore.
+     *
+     * @return true if the lore of items without marker has to be checked
+     */
+    public static boolean isQuestItemLoreFallbackEnabled() {
+        return BetonQuest.getInstance().getPluginConfig().getBoolean("item.quest.lore_fallback", true);
+    }
+
+    /**
+     * Checks if the lore of the ItemMeta contains the quest item line.
+     *
+     * @param meta ItemMeta to check
+     * @return true if the lore marks a quest item, false otherwise
+     */
+    public static boolean hasQuestItemLore(final ItemMeta meta) {
+        final List<Component> lore = meta.lore();
         if (lore == null) {
             return false;
         }
@@ -200,6 +235,34 @@ public final class Utils {
         }
     }
 
+    /**
+     * Stamps the quest item marker on the ItemMeta.
+     *
+     * @param meta ItemMeta to mark as quest item
+     */
+    public static void markQuestItem(final ItemMeta meta) {
+        meta.getPersistentDataContainer().set(QUEST_ITEM_KEY, PersistentDataType.BYTE, (byte) 1);
+    }
+
+    /**
+     * Stamps the quest item marker on a quest item that is only recognized by its lore.
+     *
+     * @param item ItemStack to migrate
+     * @return true if the ItemStack was changed, false if it is no quest item or already marked
+     */
+    public static boolean migrateQuestItem(@Nullable final ItemStack item) {
+        if (item == null || item.getType().isAir() || !item.hasItemMeta()) {
+            return false;
+        }
+        final ItemMeta meta = item.getItemMeta();
+        if (meta.getPersistentDataContainer().has(QUEST_ITEM_KEY, PersistentDataType.BYTE) || !hasQuestItemLore(meta)) {
+            return false;
+        }
+        markQuestItem(meta);
+        item.setItemMeta(meta);
+        return true;
+    }
+
     /**
      * Gets the party of the location.
      * A range of 0 means worldwide and -1 means server-wide.
@@ -0,0 +1,387 @@
+package org.betonquest.betonquest.util.math;
+
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.util.math.tokens.AbsoluteValue;
+import org.betonquest.betonquest.util.math.tokens.Negation;
+import org.betonquest.betonquest.util.math.tokens.Number;
+import org.betonquest.betonquest.util.math.tokens.Operation;
+import org.betonquest.betonquest.util.math.tokens.Parenthesis;
+import org.betonquest.betonquest.util.math.tokens.Token;
+import org.betonquest.betonquest.util.math.tokens.Variable;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A mathematical expression compiled from a {@link Token} into a flat program.
+ * <p>
+ * Parts of the expression without variables are calculated once while compiling.
+ * Variables that occur several times in the expression are resolved only once per evaluation,
+ * and repeated parts with variables are calculated only once per evaluation.
+ * The evaluation works on primitive doubles in a single array instead of walking the token tree.
+ * That array is reused per thread, as its size is fixed when compiling.
+ * Resolved variables are still boxed by the underlying {@link org.betonquest.betonquest.instruction.variable.Variable}.
+ */
+@SuppressWarnings("deprecation")
+public final class CompiledExpression {
+    /**
+     * Instruction pushing a constant, the argument is the index of the constant.
+     */
+    private static final int PUSH_CONSTANT = 0;
+
+    /**
+     * Instruction pushing a resolved variable or a stored part of the expression, the argument is its slot.
+     */
+    private static final int PUSH_VARIABLE = 1;
+
+    /**
+     * Instruction negating the topmost value.
+     */
+    private static final int NEGATE = 2;
+
+    /**
+     * Instruction replacing the topmost value with its absolute value.
+     */
+    private static final int ABSOLUTE = 3;
+
+    /**
+     * Instruction calculating the two topmost values, the argument is the ordinal of the {@link Operator}.
+     */
+    private static final int OPERATE = 4;
+
+    /**
+     * Instruction storing the topmost value for reuse, the argument is the slot to store it in.
+     */
+    private static final int STORE = 5;
+
+    /**
+     * All operators by ordinal.
+     */
+    private static final Operator[] OPERATORS = Operator.values();
+
+    /**
+     * The instructions as pairs of instruction and argument.
+     */
+    private final int[] code;
+
+    /**
+     * The constants used by the instructions.
+     */
+    private final double[] constants;
+
+    /**
+     * The distinct variables, resolved before the instructions run.
+     */
+    private final Token[] variables;
+
+    /**
+     * The amount of slots for resolved variables and stored parts of the expression before the stack.
+     */
+    private final int slots;
+
+    /**
+     * The array holding the slots followed by the stack, reused by each thread.
+     * It is never used twice at once, as a variable evaluating this expression again would recurse endlessly.
+     */
+    private final ThreadLocal<double[]> scratch;
+
+    private CompiledExpression(final int[] code, final double[] constants, final Token[] variables, final int slots, final int stackSize) {
+        this.code = code;
+        this.constants = constants;
+        this.variables = variables;
+        this.slots = slots;
+        this.scratch = ThreadLocal.withInitial(() -> new double[slots + stackSize]);
+    }
+
+    /**
+     * Compiles the expression represented by the token.
+     *
+     * @param token the parsed expression
+     * @return the compiled expression
+     * @throws QuestException if a constant part of the expression could not be calculated
+     */
+    public static CompiledExpression compile(final Token token) throws QuestException {
+        final Compiler compiler = new Compiler();
+        compiler.count(token);
+        compiler.emit(token);
+        return compiler.build();
+    }
+
+    /**
+     * Checks if the expression resolves to the same value for every profile.
+     *
+     * @return true if the expression contains no variables
+     */
+    public boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param profile the {@link Profile} of the player for which the expression should be evaluated,
+     *                required for resolving variables
+     * @return the result
+     * @throws QuestException if a variable could not be resolved
+     */
+    public double evaluate(@Nullable final Profile profile) throws QuestException {
+        if (code.length == 2 && code[0] == PUSH_CONSTANT) {
+            return constants[code[1]];
+        }
+        final double[] values = scratch.get();
+        for (int i = 0; i < variables.length; i++) {
+            values[i] = variables[i].resolve(profile);
+        }
+        int top = slots;
+        for (int index = 0; index < code.length; index += 2) {
+            final int argument = code[index + 1];
+            switch (code[index]) {
+                case PUSH_CONSTANT -> values[top++] = constants[argument];
+                case PUSH_VARIABLE -> values[top++] = values[argument];
+                case NEGATE -> values[top - 1] = -values[top - 1];
+                case ABSOLUTE -> values[top - 1] = Math.abs(values[top - 1]);
+                case STORE -> values[argument] = values[top - 1];
+                default -> {
+                    top--;
+                    values[top - 1] = OPERATORS[argument].calculate(values[top - 1], values[top]);
+                }
+            }
+        }
+        return values[top - 1];
+    }
+
+    /**
+     * Compiles tokens into instructions.
+     */
+    private static final class Compiler {
+        /**
+         * The instructions as pairs of instruction and argument.
+         */
+        private final List<Integer> code;
+
+        /**
+         * The constants used by the instructions.
+         */
+        private final List<Double> constants;
+
+        /**
+         * The distinct variables.
+         */
+        private final List<Token> variables;
+
+        /**
+         * The index of the variables by name.
+         */
+        private final Map<String, Integer> variableIndices;
+
+        /**
+         * The canonical form of each token that can be reused, identical parts share the same form.
+         */
+        private final Map<Token, String> forms;
+
+        /**
+         * How often each canonical form occurs in the expression.
+         */
+        private final Map<String, Integer> occurrences;
+
+        /**
+         * The index of the stored parts of the expression by canonical form.
+         */
+        private final Map<String, Integer> storedIndices;
+
+        /**
+         * The positions of the arguments referring to stored parts, which are placed after the variables.
+         */
+        private final List<Integer> storedArguments;
+
+        /**
+         * The current amount of values on the stack.
+         */
+        private int depth;
+
+        /**
+         * The maximum amount of values on the stack.
+         */
+        private int maxDepth;
+
+        private Compiler() {
+            this.code = new ArrayList<>();
+            this.constants = new ArrayList<>();
+            this.variables = new ArrayList<>();
+            this.variableIndices = new HashMap<>();
+            this.forms = new IdentityHashMap<>();
+            this.occurrences = new HashMap<>();
+            this.storedIndices = new HashMap<>();
+            this.storedArguments = new ArrayList<>();
+        }
+
+        /**
+         * Counts the occurrences of the parts of a token that can be reused.
+         *
+         * @param token the token to count the parts of
+         * @return the canonical form of the token or null if it cannot be reused
+         */
+        @Nullable
+        private String count(final Token token) {
+            if (token instanceof final Parenthesis parenthesis) {
+                return count(parenthesis.getInside());
+            }
+            if (token instanceof final Number number) {
+                return String.valueOf(number.getValue());
+            }
+            if (token instanceof final Variable variable) {
+                return variable.getName() == null ? null : "{" + variable.getName() + "}";
+            }
+            final String form;
+            if (token instanceof final Negation negation) {
+                final String inside = count(negation.getInside());
+                form = inside == null ? null : "-(" + inside + ")";
+            } else if (token instanceof final AbsoluteValue absoluteValue) {
+                final String inside = count(absoluteValue.getInside());
+                form = inside == null ? null : "|" + inside + "|";
+            } else if (token instanceof final Operation operation) {
+                final String left = count(operation.getVal1());
+                final String right = count(operation.getVal2());
+                form = left == null || right == null ? null : "(" + left + operation.getOperator().name() + right + ")";
+            } else {
+                return null;
+            }
+            if (form != null) {
+                forms.put(token, form);
+                occurrences.merge(form, 1, Integer::sum);
+            }
+            return form;
+        }
+
+        /**
+         * Emits the instructions of a token.
+         *
+         * @param token the token to compile
+         * @return true if the token is constant and was emitted as a single constant
+         * @throws QuestException if a constant part could not be calculated
+         */
+        private boolean emit(final Token token) throws QuestException {
+            final String form = forms.get(token);
+            if (form != null && occurrences.get(form) > 1) {
+                return emitReused(token, form);
+            }
+            return emitToken(token);
+        }
+
+        private boolean emitToken(final Token token) throws QuestException {
+            if (token instanceof final Parenthesis parenthesis) {
+                return emit(parenthesis.getInside());
+            }
+            if (token instanceof final Number number) {
+                pushConstant(number.getValue());
+                return true;
+            }
+            if (token instanceof final Negation negation) {
+                return emitUnary(negation.getInside(), NEGATE, value -> -value);
+            }
+            if (token instanceof final AbsoluteValue absoluteValue) {
+                return emitUnary(absoluteValue.getInside(), ABSOLUTE, Math::abs);
+            }
+            if (token instanceof final Operation operation) {
+                return emitOperation(operation);
+            }
+            if (token instanceof final Variable variable && variable.getVariable().isConstant()) {
+                pushConstant(variable.resolve(null));
+                return true;
+            }
+            pushVariable(token);
+            return false;
+        }
+
+        private boolean emitReused(final Token token, final String form) throws QuestException {
+            final Integer stored = storedIndices.get(form);
+            if (stored != null) {
+                push(PUSH_VARIABLE, stored);
+                storedArguments.add(code.size() - 1);
+                return false;
+            }
+            if (emitToken(token)) {
+                return true;
+            }
+            storedIndices.put(form, storedIndices.size());
+            add(STORE, storedIndices.size() - 1);
+            storedArguments.add(code.size() - 1);
+            return false;
+        }
+
+        private boolean emitUnary(final Token inside, final int instruction, final DoubleUnaryOperator fold) throws QuestException {
+            if (emit(inside)) {
+                pushConstant(fold.applyAsDouble(popConstant()));
+                return true;
+            }
+            add(instruction, 0);
+            return false;
+        }
+
+        private boolean emitOperation(final Operation operation) throws QuestException {
+            final boolean constantLeft = emit(operation.getVal1());
+            final boolean constantRight = emit(operation.getVal2());
+            if (constantLeft && constantRight) {
+                final double right = popConstant();
+                final double left = popConstant();
+                pushConstant(operation.getOperator().calculate(left, right));
+                return true;
+            }
+            add(OPERATE, operation.getOperator().ordinal());
+            depth--;
+            return false;
+        }
+
+        private void pushConstant(final double value) {
+            constants.add(value);
+            push(PUSH_CONSTANT, constants.size() - 1);
+        }
+
+        private double popConstant() {
+            code.remove(code.size() - 1);
+            code.remove(code.size() - 1);
+            depth--;
+            return constants.remove(constants.size() - 1);
+        }
+
+        private void pushVariable(final Token token) {
+            final String name = token instanceof final Variable variable ? variable.getName() : null;
+            Integer index = name == null ? null : variableIndices.get(name);
+            if (index == null) {
+                variables.add(token);
+                index = variables.size() - 1;
+                if (name != null) {
+                    variableIndices.put(name, index);
+                }
+            }
+            push(PUSH_VARIABLE, index);
+        }
+
+        private void push(final int instruction, final int argument) {
+            add(instruction, argument);
+            depth++;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        private void add(final int instruction, final int argument) {
+            code.add(instruction);
+            code.add(argument);
+        }
+
+        private CompiledExpression build() {
+            final int[] compiledCode = code.stream().mapToInt(Integer::intValue).toArray();
+            for (final int position : storedArguments) {
+                compiledCode[position] += variables.size();
+            }
+            final double[] compiledConstants = constants.stream().mapToDouble(Double::doubleValue).toArray();
+            return new CompiledExpression(compiledCode, compiledConstants, variables.toArray(new Token[0]),
+                    variables.size() + storedIndices.size(), maxDepth);
+        }
+    }
+}
@@ -116,7 +116,8 @@ public class Tokenizer {
             final String variableName = ESCAPE_REGEX.matcher(rawVariableName).replaceAll("$1");
 
             try {
-                nextInLine = new Variable(new org.betonquest.betonquest.instruction.variable.Variable<>(variableProcessor, pack, "%" + variableName + "%", Argument.NUMBER));
+                final String variable = "%" + variableName + "%";
+                nextInLine = new Variable(new org.betonquest.betonquest.instruction.variable.Variable<>(variableProcessor, pack, variable, Argument.NUMBER), variable);
             } catch (final QuestException e) {
                 throw new QuestException("invalid calculation (" + e.getMessage() + ")", e);
             }
@@ -159,7 +160,8 @@ public class Tokenizer {
                 }
             }
             try {
-                nextInLine = new Variable(new org.betonquest.betonquest.instruction.variable.Variable<>(variableProcessor, pack, "%" + val2.substring(start, index--) + "%", Argument.NUMBER));
+                final String variable = "%" + val2.substring(start, index--) + "%";
+                nextInLine = new Variable(new org.betonquest.betonquest.instruction.variable.Variable<>(variableProcessor, pack, variable, Argument.NUMBER), variable);
             } catch (final QuestException e) {
                 throw new QuestException("invalid calculation (" + e.getMessage() + ")", e);
             }
@@ -31,6 +31,15 @@ public class Negation implements Token {
         return -inside.resolve(profile);
     }
 
+    /**
+     * Gets the token that is inside.
+     *
+     * @return the inside token
+     */
+    public Token getInside() {
+        return inside;
+    }
+
     @Override
     public String toString() {
         return '-' + inside.toString();
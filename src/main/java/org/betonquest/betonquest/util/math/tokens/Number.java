@@ -30,6 +30,15 @@ public class Number implements Token {
         return value;
     }
 
+    /**
+     * Gets the value of the number.
+     *
+     * @return the value
+     */
+    public double getValue() {
+        return value;
+    }
+
     @Override
     public String toString() {
         return String.valueOf(value);
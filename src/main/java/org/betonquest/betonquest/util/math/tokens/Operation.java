@@ -46,6 +46,33 @@ public class Operation implements Token {
         return operator.calculate(val1.resolve(profile), val2.resolve(profile));
     }
 
+    /**
+     * Gets the first value, left of the operator.
+     *
+     * @return the left token
+     */
+    public Token getVal1() {
+        return val1;
+    }
+
+    /**
+     * Gets the operator.
+     *
+     * @return the operator
+     */
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Gets the second value, right of the operator.
+     *
+     * @return the right token
+     */
+    public Token getVal2() {
+        return val2;
+    }
+
     @Override
     public String toString() {
         return val1.toString() + operator + val2;
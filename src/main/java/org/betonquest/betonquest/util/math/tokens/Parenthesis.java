@@ -45,6 +45,15 @@ public class Parenthesis implements Token {
         return inside.resolve(profile);
     }
 
+    /**
+     * Gets the token that is inside.
+     *
+     * @return the inside token
+     */
+    public Token getInside() {
+        return inside;
+    }
+
     @Override
     public String toString() {
         return openingSymbol + inside.toString() + closingSymbol;
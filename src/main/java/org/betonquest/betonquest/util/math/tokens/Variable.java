@@ -19,13 +19,30 @@ public class Variable implements Token {
      */
     private final org.betonquest.betonquest.instruction.variable.Variable<Number> variableNumber;
 
+    /**
+     * The variable as written in the expression, null if unknown.
+     */
+    @Nullable
+    private final String name;
+
     /**
      * Creates a new variable token from a variable number.
      *
      * @param variableNumber underlying variable
      */
     public Variable(final org.betonquest.betonquest.instruction.variable.Variable<Number> variableNumber) {
+        this(variableNumber, null);
+    }
+
+    /**
+     * Creates a new variable token from a variable number.
+     *
+     * @param variableNumber underlying variable
+     * @param name           the variable as written in the expression, null if unknown
+     */
+    public Variable(final org.betonquest.betonquest.instruction.variable.Variable<Number> variableNumber, @Nullable final String name) {
         this.variableNumber = variableNumber;
+        this.name = name;
     }
 
     @Override
@@ -33,8 +50,28 @@ public class Variable implements Token {
         return variableNumber.getValue(profile).doubleValue();
     }
 
+    /**
+     * Gets the underlying variable.
+     *
+     * @return the variable number
+     */
+    public org.betonquest.betonquest.instruction.variable.Variable<Number> getVariable() {
+        return variableNumber;
+    }
+
+    /**
+     * Gets the variable as written in the expression.
+     * Tokens with the same name resolve to the same value.
+     *
+     * @return the name or null if unknown
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
     @Override
     public String toString() {
-        return variableNumber.toString();
+        return name == null ? variableNumber.toString() : name;
     }
 }
@@ -0,0 +1,83 @@
+package org.betonquest.betonquest.api.profile;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for the {@link ProfileKeyMap}.
+ */
+class ProfileKeyMapTest {
+    /**
+     * The provider resolving the stored UUIDs.
+     */
+    private ProfileProvider provider;
+
+    /**
+     * The map to test.
+     */
+    private ProfileKeyMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        provider = mock(ProfileProvider.class);
+        map = new ProfileKeyMap<>(provider);
+    }
+
+    private Profile profile() {
+        final Profile profile = mock(Profile.class);
+        final UUID uuid = UUID.randomUUID();
+        when(profile.getProfileUUID()).thenReturn(uuid);
+        when(provider.getProfile(uuid)).thenReturn(profile);
+        return profile;
+    }
+
+    @Test
+    void testKeySetIsLiveView() {
+        final Profile first = profile();
+        map.put(first, "first");
+        final Set<Profile> keys = map.keySet();
+        final Profile second = profile();
+        map.put(second, "second");
+
+        assertEquals(2, keys.size(), "Key set should reflect later changes of the map");
+        assertTrue(keys.contains(second), "Key set should contain later added profiles");
+        assertTrue(keys.remove(first), "Removing from the key set should succeed");
+        assertFalse(map.containsKey(first), "Removing from the key set should remove from the map");
+    }
+
+    @Test
+    void testEntrySetWritesThrough() {
+        final Profile profile = profile();
+        map.put(profile, "old");
+        final Iterator<Map.Entry<Profile, String>> iterator = map.entrySet().iterator();
+        final Map.Entry<Profile, String> entry = iterator.next();
+
+        assertSame(profile, entry.getKey(), "Entry should resolve the profile");
+        assertEquals("old", entry.setValue("new"), "Setting the value should return the old value");
+        assertEquals("new", map.get(profile), "Setting the value should write through to the map");
+        iterator.remove();
+        assertTrue(map.isEmpty(), "Removing through the iterator should remove from the map");
+    }
+
+    @Test
+    void testForEachResolvesProfiles() {
+        final Profile first = profile();
+        final Profile second = profile();
+        map.put(first, "first");
+        map.put(second, "second");
+
+        final Map<Profile, String> visited = new HashMap<>();
+        map.forEach(visited::put);
+
+        assertEquals(Map.of(first, "first", second, "second"), visited, "Each entry should be visited with its profile");
+    }
+}
@@ -0,0 +1,168 @@
+package org.betonquest.betonquest.api.quest.npc.feature;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.bukkit.config.custom.multi.MultiConfiguration;
+import org.betonquest.betonquest.api.config.ConfigAccessor;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.api.quest.QuestTypeAPI;
+import org.betonquest.betonquest.api.quest.npc.Npc;
+import org.betonquest.betonquest.api.quest.npc.NpcWrapper;
+import org.betonquest.betonquest.id.IDCache;
+import org.betonquest.betonquest.id.NpcID;
+import org.betonquest.betonquest.kernel.processor.quest.NpcProcessor;
+import org.betonquest.betonquest.kernel.registry.quest.NpcTypeRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test the change-only visibility updates of the {@link NpcHider}.
+ */
+class NpcHiderTest {
+    /**
+     * The world of the player and the Npc.
+     */
+    private final World world = mock(World.class);
+
+    /**
+     * The API checking the hide conditions.
+     */
+    private QuestTypeAPI questTypeAPI;
+
+    /**
+     * The profile of the player the Npc is hidden from.
+     */
+    private OnlineProfile onlineProfile;
+
+    /**
+     * The Npc to hide.
+     */
+    private Npc<Object> npc;
+
+    /**
+     * The id of the Npc to hide.
+     */
+    private NpcID npcId;
+
+    /**
+     * The hider to test.
+     */
+    private NpcHider hider;
+
+    @BeforeEach
+    void setUp() throws QuestException {
+        final QuestPackage pack = mock(QuestPackage.class);
+        final MultiConfiguration config = mock(MultiConfiguration.class);
+        final ConfigurationSection section = mock(ConfigurationSection.class);
+        when(pack.getQuestPath()).thenReturn("test");
+        when(pack.getConfig()).thenReturn(config);
+        when(config.getString("npcs.guard")).thenReturn("citizens 1");
+        when(config.getString("conditions.hidden")).thenReturn("tag has hidden");
+        when(config.getConfigurationSection("hide_npcs")).thenReturn(section);
+        when(section.getKeys(false)).thenReturn(Set.of("guard"));
+        when(section.getString("guard")).thenReturn("hidden");
+        npcId = new NpcID(pack, "guard");
+
+        npc = mock(Npc.class);
+        when(npc.isSpawned()).thenReturn(true);
+        when(npc.getLocation()).thenReturn(new Location(world, 0, 64, 0));
+        final NpcProcessor npcProcessor = mock(NpcProcessor.class);
+        final NpcWrapper<Object> wrapper = profile -> npc;
+        when(npcProcessor.get(npcId)).thenReturn(wrapper);
+
+        final Player player = mock(Player.class);
+        when(player.getLocation()).thenReturn(new Location(world, 10, 64, 10));
+        onlineProfile = mock(OnlineProfile.class);
+        when(onlineProfile.getPlayer()).thenReturn(player);
+        when(onlineProfile.getPlayerUUID()).thenReturn(UUID.randomUUID());
+        final ProfileProvider profileProvider = mock(ProfileProvider.class);
+        when(profileProvider.getOnlineProfiles()).thenReturn(List.of(onlineProfile));
+
+        final BetonQuest plugin = mock(BetonQuest.class);
+        questTypeAPI = mock(QuestTypeAPI.class);
+        when(plugin.getQuestTypeAPI()).thenReturn(questTypeAPI);
+        when(plugin.getPluginConfig()).thenReturn(mock(ConfigAccessor.class));
+        hider = new NpcHider(mock(BetonQuestLogger.class), npcProcessor, plugin, profileProvider, mock(NpcTypeRegistry.class));
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(Bukkit::getViewDistance).thenReturn(2);
+            bukkit.when(Bukkit::getScheduler).thenReturn(mock(BukkitScheduler.class));
+            hider.reload(List.of(pack));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        IDCache.clear();
+    }
+
+    private void setHidden(final boolean hidden) {
+        when(questTypeAPI.conditions(eq(onlineProfile), anyCollection())).thenReturn(hidden);
+    }
+
+    @Test
+    void testVisibilityIsOnlySentOnChange() {
+        setHidden(false);
+        hider.applyVisibility(onlineProfile, npcId);
+        hider.applyVisibility(onlineProfile, npcId);
+        verify(npc, times(1)).show(onlineProfile);
+
+        setHidden(true);
+        hider.applyVisibility(onlineProfile, npcId);
+        hider.applyVisibility(onlineProfile, npcId);
+        verify(npc, times(1)).hide(onlineProfile);
+        verify(npc, times(1)).show(onlineProfile);
+    }
+
+    @Test
+    void testExternalChangeSendsVisibilityAgain() {
+        setHidden(true);
+        hider.applyVisibility(onlineProfile, npcId);
+        hider.applyVisibility(npcId);
+        verify(npc, times(2)).hide(onlineProfile);
+
+        hider.applyVisibility();
+        verify(npc, times(3)).hide(onlineProfile);
+    }
+
+    @Test
+    void testRespawnedNpcSendsVisibilityAgain() {
+        setHidden(true);
+        hider.applyVisibility(onlineProfile, npcId);
+        when(npc.isSpawned()).thenReturn(false);
+        hider.applyVisibility(onlineProfile, npcId);
+        when(npc.isSpawned()).thenReturn(true);
+        hider.applyVisibility(onlineProfile, npcId);
+        verify(npc, times(2)).hide(onlineProfile);
+    }
+
+    @Test
+    void testNpcOutOfRangeIsSkipped() {
+        setHidden(true);
+        when(npc.getLocation()).thenReturn(new Location(world, 16 * 10, 64, 0));
+        hider.applyVisibility(onlineProfile, npcId);
+        verify(npc, never()).hide(onlineProfile);
+        verify(npc, never()).show(onlineProfile);
+
+        when(npc.getLocation()).thenReturn(new Location(mock(World.class), 0, 64, 0));
+        hider.applyVisibility(onlineProfile, npcId);
+        verify(npc, never()).hide(onlineProfile);
+        verify(npc, never()).show(onlineProfile);
+    }
+}
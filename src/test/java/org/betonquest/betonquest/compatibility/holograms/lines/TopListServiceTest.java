@@ -0,0 +1,129 @@
+package org.betonquest.betonquest.compatibility.holograms.lines;
+
+import org.betonquest.betonquest.compatibility.holograms.lines.TopListService.Board;
+import org.betonquest.betonquest.compatibility.holograms.lines.TopListService.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the leaderboards of the {@link TopListService}.
+ */
+class TopListServiceTest {
+    /**
+     * The first player on the board.
+     */
+    private static final UUID ALICE = UUID.randomUUID();
+
+    /**
+     * The second player on the board.
+     */
+    private static final UUID BOB = UUID.randomUUID();
+
+    /**
+     * The third player on the board.
+     */
+    private static final UUID CAROL = UUID.randomUUID();
+
+    /**
+     * The current time of the board in nanoseconds.
+     */
+    private final AtomicLong time = new AtomicLong();
+
+    /**
+     * The board to test.
+     */
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(TopXObject.OrderType.DESCENDING, time::get);
+    }
+
+    private Map<UUID, Entry> loaded(final Object... entries) {
+        final Map<UUID, Entry> loaded = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 3) {
+            loaded.put((UUID) entries[i], new Entry((String) entries[i + 1], (Integer) entries[i + 2]));
+        }
+        return loaded;
+    }
+
+    @Test
+    void testOverrideIsKeptWhileDatabaseLags() {
+        board.merge(loaded(ALICE, "Alice", 5, BOB, "Bob", 7), 10, 0);
+        time.set(100);
+        board.update(ALICE, "Alice", 9);
+
+        board.merge(loaded(ALICE, "Alice", 5, BOB, "Bob", 7), 10, 200);
+        assertEquals(List.of(new TopXLine("Alice", 9), new TopXLine("Bob", 7)), board.getSnapshot(),
+                "Points updated in memory should override the outdated database");
+    }
+
+    @Test
+    void testOverrideIsDroppedOnceDatabaseCaughtUp() {
+        time.set(100);
+        board.update(ALICE, "Alice", 9);
+        board.merge(loaded(ALICE, "Alice", 9), 10, 200);
+
+        board.merge(loaded(ALICE, "Alice", 3), 10, 300);
+        assertEquals(List.of(new TopXLine("Alice", 3)), board.getSnapshot(),
+                "Points changed elsewhere should be shown once the database caught up with the memory");
+    }
+
+    @Test
+    void testOverrideOfQueryStartedBeforeUpdateIsKept() {
+        time.set(100);
+        board.update(ALICE, "Alice", 9);
+        board.merge(loaded(ALICE, "Alice", 9), 10, 50);
+
+        board.merge(loaded(ALICE, "Alice", 5), 10, 60);
+        assertEquals(List.of(new TopXLine("Alice", 9)), board.getSnapshot(),
+                "Queries started before the update should not drop the override");
+    }
+
+    @Test
+    void testOverrideExpires() {
+        time.set(100);
+        board.update(ALICE, "Alice", 9);
+
+        board.merge(loaded(ALICE, "Alice", 5), 10, 100 + TopListService.OVERRIDE_RETENTION + 1);
+        assertEquals(List.of(new TopXLine("Alice", 5)), board.getSnapshot(),
+                "Expired overrides should no longer hide the database");
+    }
+
+    @Test
+    void testOverrideIsDroppedOnceOutOfBoard() {
+        time.set(100);
+        board.update(CAROL, "Carol", 1);
+        board.merge(loaded(ALICE, "Alice", 5, BOB, "Bob", 4), 2, 200);
+        assertEquals(List.of(new TopXLine("Alice", 5), new TopXLine("Bob", 4)), board.getSnapshot(),
+                "Board should only hold as many entries as loaded");
+
+        board.merge(loaded(ALICE, "Alice", 5, BOB, "Bob", 4), 3, 300);
+        assertEquals(List.of(new TopXLine("Alice", 5), new TopXLine("Bob", 4)), board.getSnapshot(),
+                "Override that dropped out of the board should not come back");
+    }
+
+    @Test
+    void testLimitShrinksToRequested() {
+        assertTrue(board.require(10), "First request should load the board");
+        assertFalse(board.require(5), "Smaller request should not load the board again");
+        board.shrinkToRequested();
+        assertEquals(10, board.getLimit(), "Largest request should be kept");
+
+        board.require(5);
+        board.shrinkToRequested();
+        assertEquals(5, board.getLimit(), "Limit should shrink to the largest request since the last refresh");
+
+        board.shrinkToRequested();
+        assertEquals(5, board.getLimit(), "Limit should be kept if nothing was requested");
+        assertTrue(board.require(8), "Larger request should load the board again");
+    }
+}
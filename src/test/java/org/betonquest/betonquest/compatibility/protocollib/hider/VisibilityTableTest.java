@@ -0,0 +1,60 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the {@link VisibilityTable}.
+ */
+class VisibilityTableTest {
+    @Test
+    void testAddAndRemovePair() {
+        final VisibilityTable table = new VisibilityTable();
+        assertFalse(table.add(1, 2), "Pair should not be present before adding it");
+        assertTrue(table.add(1, 2), "Pair should be present after adding it");
+        assertTrue(table.contains(1, 2), "Table should contain the added pair");
+        assertFalse(table.contains(2, 1), "Table should not contain the reversed pair");
+        assertTrue(table.remove(1, 2), "Removed pair should have been present");
+        assertFalse(table.remove(1, 2), "Pair should be absent after removing it");
+        assertFalse(table.contains(1, 2), "Table should not contain the removed pair");
+    }
+
+    @Test
+    void testNegativeAndLargeIds() {
+        final VisibilityTable table = new VisibilityTable();
+        table.add(-1, Integer.MAX_VALUE);
+        table.add(Integer.MAX_VALUE, -1);
+        assertTrue(table.contains(-1, Integer.MAX_VALUE), "Table should contain the pair with negative observer");
+        assertTrue(table.contains(Integer.MAX_VALUE, -1), "Table should contain the pair with negative entity");
+        assertFalse(table.contains(-1, -1), "Table should not mix up the IDs of different pairs");
+    }
+
+    @Test
+    void testRemoveEntity() {
+        final VisibilityTable table = new VisibilityTable();
+        for (int observer = 0; observer < 10; observer++) {
+            table.add(observer, 5);
+            table.add(observer, 6);
+        }
+        table.removeEntity(5);
+        for (int observer = 0; observer < 10; observer++) {
+            assertFalse(table.contains(observer, 5), "Removed entity should not be visible to any observer");
+            assertTrue(table.contains(observer, 6), "Other entities should be kept");
+        }
+    }
+
+    @Test
+    void testRemoveObserver() {
+        final VisibilityTable table = new VisibilityTable();
+        for (int entity = -100; entity < 100; entity++) {
+            table.add(3, entity);
+            table.add(4, entity);
+        }
+        table.removeObserver(3);
+        for (int entity = -100; entity < 100; entity++) {
+            assertFalse(table.contains(3, entity), "Removed observer should not see any entity");
+            assertTrue(table.contains(4, entity), "Other observers should be kept");
+        }
+    }
+}
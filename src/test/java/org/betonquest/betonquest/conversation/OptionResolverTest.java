@@ -0,0 +1,83 @@
+package org.betonquest.betonquest.conversation;
+
+import org.betonquest.betonquest.id.ConditionID;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test the {@link OptionResolver}.
+ */
+class OptionResolverTest {
+    @Test
+    void testAvailableOptionsKeepTheirOrder() {
+        final ConditionID met = mock(ConditionID.class);
+        final ConditionID unmet = mock(ConditionID.class);
+        final CompletableFuture<Boolean> delayed = new CompletableFuture<>();
+        final Map<String, List<ConditionID>> conditions = Map.of("first", List.of(met), "second", List.of(unmet),
+                "third", List.of(), "fourth", List.of(met));
+        final OptionResolver<String> resolver = new OptionResolver<>(conditions::get,
+                ids -> ids.contains(met) ? delayed : CompletableFuture.completedFuture(ids.isEmpty()), Runnable::run);
+        final List<List<String>> displayed = new ArrayList<>();
+        final AtomicInteger ended = new AtomicInteger();
+
+        final CompletableFuture<Void> future = resolver.resolve(List.of("first", "second", "third", "fourth"),
+                displayed::add, ended::incrementAndGet);
+        assertTrue(displayed.isEmpty(), "Options should not be displayed before all checks are done");
+        delayed.complete(true);
+
+        future.join();
+        assertEquals(List.of(List.of("first", "third", "fourth")), displayed, "Available options should be displayed in their order");
+        assertEquals(0, ended.get(), "Conversation should not end if options are available");
+    }
+
+    @Test
+    void testIdenticalConditionsAreCheckedOnce() {
+        final ConditionID condition = mock(ConditionID.class);
+        final AtomicInteger checks = new AtomicInteger();
+        final OptionResolver<String> resolver = new OptionResolver<>(option -> List.of(condition), ids -> {
+            checks.incrementAndGet();
+            return CompletableFuture.completedFuture(true);
+        }, Runnable::run);
+        final List<List<String>> displayed = new ArrayList<>();
+
+        resolver.resolve(List.of("first", "second", "third"), displayed::add, () -> {
+        }).join();
+        assertEquals(1, checks.get(), "Options with the same conditions should share a single check");
+        assertEquals(List.of(List.of("first", "second", "third")), displayed, "Every option should get the shared outcome");
+    }
+
+    @Test
+    void testEndsWhenNoOptionIsAvailable() {
+        final OptionResolver<String> resolver = new OptionResolver<>(option -> List.of(mock(ConditionID.class)),
+                ids -> CompletableFuture.completedFuture(false), Runnable::run);
+        final List<List<String>> displayed = new ArrayList<>();
+        final AtomicInteger ended = new AtomicInteger();
+
+        resolver.resolve(List.of("first", "second"), displayed::add, ended::incrementAndGet).join();
+        assertEquals(List.of(List.of()), displayed, "Display should be called with no options");
+        assertEquals(1, ended.get(), "Conversation should end if no option is available");
+    }
+
+    @Test
+    void testFailedCheckCompletesExceptionally() {
+        final OptionResolver<String> resolver = new OptionResolver<>(option -> List.of(mock(ConditionID.class)),
+                ids -> CompletableFuture.failedFuture(new IllegalStateException("check failed")), Runnable::run);
+        final AtomicInteger ended = new AtomicInteger();
+
+        final CompletableFuture<Void> future = resolver.resolve(List.of("first"), options -> {
+        }, ended::incrementAndGet);
+        final CompletionException exception = assertThrows(CompletionException.class, future::join,
+                "A failed check should complete the future exceptionally");
+        assertInstanceOf(IllegalStateException.class, exception.getCause(), "The failure of the check should be passed on");
+        assertEquals(0, ended.get(), "The end should be left to the caller handling the failure");
+    }
+}
@@ -0,0 +1,98 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test the flush windows of the {@link AsyncSaver}.
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncSaverTest {
+    /**
+     * The maximum time in milliseconds to wait for a flush.
+     */
+    private static final long FLUSH_TIMEOUT = 2000;
+
+    @Mock
+    private BetonQuestLogger logger;
+
+    @Mock
+    private Database database;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private AsyncSaver saver;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(database.borrowConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        lenient().when(statement.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        saver.end();
+    }
+
+    private void startSaver(final int batchSize, final long flushInterval) {
+        saver = new AsyncSaver(logger, new Connector(logger, "", database), null, 1000, batchSize, flushInterval, 0);
+        saver.start();
+    }
+
+    private Record tag(final String tag) {
+        return new Record(UpdateType.ADD_TAGS, "profile", tag);
+    }
+
+    @Test
+    void testWindowIsFlushedOnceBatchSizeIsReached() throws SQLException {
+        startSaver(3, 60_000);
+        saver.add(tag("first"));
+        saver.add(tag("second"));
+        verify(statement, after(200).never()).executeBatch();
+
+        saver.add(tag("third"));
+        verify(connection, timeout(FLUSH_TIMEOUT)).commit();
+        verify(statement).executeBatch();
+        verify(statement, times(3)).addBatch();
+    }
+
+    @Test
+    void testWindowIsFlushedAfterFlushInterval() throws SQLException {
+        startSaver(100, 500);
+        saver.add(tag("first"));
+        saver.add(tag("second"));
+        verify(statement, after(200).never()).executeBatch();
+
+        verify(statement, timeout(FLUSH_TIMEOUT)).executeBatch();
+        verify(statement, times(2)).addBatch();
+    }
+
+    @Test
+    void testSharedConnectionSavesEachRecordWithAutoCommit() throws SQLException {
+        when(database.isConnectionShared()).thenReturn(true);
+        startSaver(2, 60_000);
+        saver.add(tag("first"));
+        saver.add(tag("second"));
+
+        verify(statement, timeout(FLUSH_TIMEOUT).times(2)).executeUpdate();
+        verify(statement, never()).executeBatch();
+        verify(connection, never()).setAutoCommit(anyBoolean());
+    }
+}
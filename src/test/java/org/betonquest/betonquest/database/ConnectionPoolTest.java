@@ -0,0 +1,85 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test the {@link ConnectionPool}.
+ */
+class ConnectionPoolTest {
+    /**
+     * The logger used by the pool.
+     */
+    private final BetonQuestLogger log = mock(BetonQuestLogger.class);
+
+    /**
+     * The connections opened by the pool, in order.
+     */
+    private final List<Connection> opened = new ArrayList<>();
+
+    private ConnectionPool createPool(final int maxSize, final long connectionTimeout, final long leakDetectionThreshold) {
+        return new ConnectionPool(log, () -> {
+            final Connection connection = mock(Connection.class);
+            when(connection.getAutoCommit()).thenReturn(true);
+            opened.add(connection);
+            return connection;
+        }, maxSize, connectionTimeout, leakDetectionThreshold);
+    }
+
+    @Test
+    void testBorrowTimesOutWhenAllConnectionsAreInUse() {
+        final ConnectionPool pool = createPool(1, 20, 0);
+        final Connection connection = pool.borrow();
+        assertThrows(IllegalStateException.class, pool::borrow, "Borrowing from an exhausted pool should time out");
+        pool.release(connection);
+        assertSame(connection, pool.borrow(), "Released connection should be handed out again");
+        assertEquals(1, opened.size(), "Only one connection should have been opened");
+    }
+
+    @Test
+    void testRecentlyUsedConnectionIsNotValidated() throws SQLException {
+        final ConnectionPool pool = createPool(1, 20, 0);
+        final Connection connection = pool.borrow();
+        pool.release(connection);
+        assertSame(connection, pool.borrow(), "Idle connection should be reused");
+        verify(connection, never()).isValid(anyInt());
+    }
+
+    @Test
+    void testClosedIdleConnectionIsReplaced() throws SQLException {
+        final ConnectionPool pool = createPool(1, 20, 0);
+        final Connection connection = pool.borrow();
+        pool.release(connection);
+        when(connection.isClosed()).thenReturn(true);
+        final Connection replacement = pool.borrow();
+        assertNotSame(connection, replacement, "Closed connection should not be handed out");
+        assertEquals(2, opened.size(), "A new connection should have been opened");
+    }
+
+    @Test
+    void testInvalidatedConnectionFreesItsSlot() throws SQLException {
+        final ConnectionPool pool = createPool(1, 20, 0);
+        final Connection connection = pool.borrow();
+        pool.invalidate(connection);
+        verify(connection).close();
+        assertNotSame(connection, pool.borrow(), "Invalidated connection should not be handed out again");
+    }
+
+    @Test
+    void testLeakIsReportedOnce() throws InterruptedException {
+        final ConnectionPool pool = createPool(1, 5, 1);
+        pool.borrow();
+        Thread.sleep(10);
+        assertThrows(IllegalStateException.class, pool::borrow, "Borrowing from an exhausted pool should time out");
+        assertThrows(IllegalStateException.class, pool::borrow, "Borrowing from an exhausted pool should time out");
+        verify(log, times(1)).warn(anyString(), any(Exception.class));
+    }
+}
@@ -0,0 +1,83 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the {@link RecordCoalescer}.
+ */
+class RecordCoalescerTest {
+    /**
+     * The profile used in the records.
+     */
+    private static final String PROFILE = "profile";
+
+    private void assertRecord(final UpdateType type, final Record actual, final String... args) {
+        assertEquals(type, actual.type(), "Record should have the expected type");
+        assertArrayEquals(args, actual.args(), "Record should have the expected arguments");
+    }
+
+    @Test
+    void testRepeatedPointUpdatesBecomeSingleReplace() {
+        final List<Record> result = new RecordCoalescer().coalesce(List.of(
+                new Record(UpdateType.REMOVE_POINTS, PROFILE, "kills"),
+                new Record(UpdateType.ADD_POINTS, PROFILE, "kills", "1"),
+                new Record(UpdateType.REMOVE_POINTS, PROFILE, "kills"),
+                new Record(UpdateType.ADD_POINTS, PROFILE, "kills", "2")));
+
+        assertEquals(1, result.size(), "Only the final state should be written");
+        assertRecord(UpdateType.REPLACE_POINTS, result.get(0), PROFILE, "kills", "2");
+    }
+
+    @Test
+    void testFinalRemovalIsKept() {
+        final List<Record> result = new RecordCoalescer().coalesce(List.of(
+                new Record(UpdateType.REMOVE_OBJECTIVES, PROFILE, "pack.obj"),
+                new Record(UpdateType.ADD_OBJECTIVES, PROFILE, "pack.obj", "data"),
+                new Record(UpdateType.REMOVE_OBJECTIVES, PROFILE, "pack.obj")));
+
+        assertEquals(1, result.size(), "Only the final state should be written");
+        assertRecord(UpdateType.REMOVE_OBJECTIVES, result.get(0), PROFILE, "pack.obj");
+    }
+
+    @Test
+    void testSingleRecordIsUnchanged() {
+        final List<Record> result = new RecordCoalescer().coalesce(List.of(
+                new Record(UpdateType.ADD_POINTS, PROFILE, "kills", "1"),
+                new Record(UpdateType.ADD_GLOBAL_POINTS, "kills", "1")));
+
+        assertEquals(2, result.size(), "Different rows should not be merged");
+        assertRecord(UpdateType.ADD_POINTS, result.get(0), PROFILE, "kills", "1");
+        assertRecord(UpdateType.ADD_GLOBAL_POINTS, result.get(1), "kills", "1");
+    }
+
+    @Test
+    void testIndependentRecordsKeepOrder() {
+        final List<Record> result = new RecordCoalescer().coalesce(List.of(
+                new Record(UpdateType.REMOVE_POINTS, PROFILE, "kills"),
+                new Record(UpdateType.ADD_TAGS, PROFILE, "tag"),
+                new Record(UpdateType.ADD_POINTS, PROFILE, "kills", "1")));
+
+        assertEquals(2, result.size(), "Point updates should be merged across independent records");
+        assertRecord(UpdateType.ADD_TAGS, result.get(0), PROFILE, "tag");
+        assertRecord(UpdateType.REPLACE_POINTS, result.get(1), PROFILE, "kills", "1");
+    }
+
+    @Test
+    void testBarrierFlushesPendingRows() {
+        final List<Record> result = new RecordCoalescer().coalesce(List.of(
+                new Record(UpdateType.REMOVE_POINTS, PROFILE, "kills"),
+                new Record(UpdateType.ADD_POINTS, PROFILE, "kills", "1"),
+                new Record(UpdateType.DELETE_POINTS, PROFILE),
+                new Record(UpdateType.ADD_POINTS, PROFILE, "kills", "2")));
+
+        assertEquals(3, result.size(), "Records should not be merged across barriers");
+        assertRecord(UpdateType.REPLACE_POINTS, result.get(0), PROFILE, "kills", "1");
+        assertRecord(UpdateType.DELETE_POINTS, result.get(1), PROFILE);
+        assertRecord(UpdateType.ADD_POINTS, result.get(2), PROFILE, "kills", "2");
+    }
+}
@@ -0,0 +1,107 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the {@link SaverJournal}.
+ */
+class SaverJournalTest {
+    /**
+     * The profile used in the records.
+     */
+    private static final String PROFILE = "profile";
+
+    private void assertRecord(final Record expected, final Record actual) {
+        assertEquals(expected.type(), actual.type(), "Record should have the expected type");
+        assertArrayEquals(expected.args(), actual.args(), "Record should have the expected arguments");
+    }
+
+    @Test
+    void testEncodingRoundTrip() throws IOException {
+        final Record rec = new Record(UpdateType.ADD_OBJECTIVES, PROFILE, "tab\there", "line\nbreak\r\\N", null, "");
+        assertRecord(rec, SaverJournal.decode(SaverJournal.encode(rec)));
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testReplayInOrderAndDelete(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("journal.log");
+        final SaverJournal journal = new SaverJournal(file);
+        final List<Record> records = List.of(
+                new Record(UpdateType.ADD_TAGS, PROFILE, "first"),
+                new Record(UpdateType.ADD_TAGS, PROFILE, "second"),
+                new Record(UpdateType.REMOVE_TAGS, PROFILE, "first"));
+        journal.append(records.subList(0, 2));
+        journal.append(records.subList(2, 3));
+        assertEquals(3, journal.size(), "Journal should count the appended records");
+
+        final List<Record> replayed = new ArrayList<>();
+        assertTrue(journal.replay(2, replayed::addAll), "Replay should complete");
+        assertEquals(3, replayed.size(), "All records should be replayed");
+        for (int i = 0; i < records.size(); i++) {
+            assertRecord(records.get(i), replayed.get(i));
+        }
+        assertTrue(journal.isEmpty(), "Journal should be empty after replay");
+        assertFalse(Files.exists(file), "Journal file should be deleted after replay");
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testInterruptedReplayResumesAfterSavedBatches(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("journal.log");
+        final SaverJournal journal = new SaverJournal(file);
+        journal.append(List.of(
+                new Record(UpdateType.ADD_TAGS, PROFILE, "first"),
+                new Record(UpdateType.ADD_TAGS, PROFILE, "second"),
+                new Record(UpdateType.ADD_TAGS, PROFILE, "third")));
+
+        final List<Record> replayed = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> journal.replay(1, records -> {
+            if (!replayed.isEmpty()) {
+                throw new IllegalStateException("Server stopped");
+            }
+            return replayed.addAll(records);
+        }), "Replay should be interrupted");
+
+        final SaverJournal reopened = new SaverJournal(file);
+        assertEquals(2, reopened.size(), "Reopened journal should not count the saved batch");
+        final List<Record> remaining = new ArrayList<>();
+        assertTrue(reopened.replay(10, remaining::addAll), "Replay should complete");
+        assertEquals(2, remaining.size(), "Saved batch should not be replayed again");
+        assertRecord(new Record(UpdateType.ADD_TAGS, PROFILE, "second"), remaining.get(0));
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testStoppedReplayKeepsRemainingRecords(
+@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("journal.log");
+        final SaverJournal journal = new SaverJournal(file);
+        journal.append(List.of(
+                new Record(UpdateType.ADD_TAGS, PROFILE, "first"),
+                new Record(UpdateType.ADD_TAGS, PROFILE, "second"),
+                new Record(UpdateType.ADD_TAGS, PROFILE, "third")));
+
+        final List<Record> replayed = new ArrayList<>();
+        assertFalse(journal.replay(1, records -> replayed.isEmpty() && replayed.addAll(records)), "Replay should stop");
+        assertEquals(1, replayed.size(), "Only the first record should be replayed");
+        assertEquals(2, journal.size(), "Journal should keep the remaining records");
+
+        final SaverJournal reopened = new SaverJournal(file);
+        assertEquals(2, reopened.size(), "Reopened journal should count the remaining records");
+        final List<Record> remaining = new ArrayList<>();
+        assertTrue(reopened.replay(10, remaining::addAll), "Replay should complete");
+        assertRecord(new Record(UpdateType.ADD_TAGS, PROFILE, "second"), remaining.get(0));
+        assertRecord(new Record(UpdateType.ADD_TAGS, PROFILE, "third"), remaining.get(1));
+    }
+}
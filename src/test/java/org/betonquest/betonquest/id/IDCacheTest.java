@@ -0,0 +1,88 @@
+package org.betonquest.betonquest.id;
+
+import org.betonquest.betonquest.api.bukkit.config.custom.multi.MultiConfiguration;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for the {@link IDCache}.
+ */
+class IDCacheTest {
+    /**
+     * The package the IDs are in.
+     */
+    private QuestPackage pack;
+
+    /**
+     * The config of the package.
+     */
+    private MultiConfiguration config;
+
+    @BeforeEach
+    void setUp() {
+        pack = mock(QuestPackage.class);
+        config = mock(MultiConfiguration.class);
+        when(pack.getQuestPath()).thenReturn("test");
+        when(pack.getConfig()).thenReturn(config);
+        when(config.getString("conditions.hasTag")).thenReturn("tag has started");
+    }
+
+    @AfterEach
+    void tearDown() {
+        IDCache.clear();
+    }
+
+    @Test
+    void testSameIdentifierIsParsedOnce() throws QuestException {
+        final ConditionID first = ConditionID.of(pack, "hasTag");
+        final ConditionID second = ConditionID.of(pack, "hasTag");
+
+        assertSame(first, second, "The same identifier should return the interned ID");
+        verify(config, times(1)).getString("conditions.hasTag");
+    }
+
+    @Test
+    void testInvertedIdentifierIsInternedSeparately() throws QuestException {
+        final ConditionID normal = ConditionID.of(pack, "hasTag");
+        final ConditionID inverted = ConditionID.of(pack, "!hasTag");
+
+        assertNotSame(normal, inverted, "Inverted identifier should not share the ID");
+        assertTrue(inverted.inverted(), "Inverted identifier should return an inverted ID");
+    }
+
+    @Test
+    void testClearCreatesNewIDs() throws QuestException {
+        final ConditionID before = ConditionID.of(pack, "hasTag");
+        IDCache.clear();
+        final ConditionID after = ConditionID.of(pack, "hasTag");
+
+        assertNotSame(before, after, "Clearing should drop the interned IDs");
+        assertEquals(before, after, "IDs of the same identifier should be equal");
+    }
+
+    @Test
+    void testReloadedPackageDoesNotGetPreviousIDs() throws QuestException {
+        final QuestPackage reloaded = mock(QuestPackage.class);
+        when(reloaded.getQuestPath()).thenReturn("test");
+        when(reloaded.getConfig()).thenReturn(config);
+
+        final ConditionID previous = ConditionID.of(pack, "hasTag");
+        final ConditionID current = ConditionID.of(reloaded, "hasTag");
+
+        assertNotSame(previous, current, "A reloaded package with the same path should not get the previous ID");
+        assertSame(reloaded, current.getPackage(), "ID should hold the reloaded package");
+    }
+
+    @Test
+    void testUndefinedIdentifierIsNotCached() {
+        assertThrows(QuestException.class, () -> ConditionID.of(pack, "undefined"), "Undefined condition should fail");
+        assertThrows(QuestException.class, () -> ConditionID.of(pack, "undefined"), "Undefined condition should fail again");
+        verify(config, times(2)).getString("conditions.undefined");
+    }
+}
@@ -0,0 +1,80 @@
+package org.betonquest.betonquest.instruction.variable;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.kernel.processor.adapter.VariableAdapter;
+import org.betonquest.betonquest.kernel.processor.quest.VariableProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for resolving {@link Variable}s from strings.
+ */
+@ExtendWith(MockitoExtension.class)
+class VariableTest {
+    /**
+     * The variable processor to create variables.
+     */
+    @Mock
+    private VariableProcessor variableProcessor;
+
+    /**
+     * The package the variables are used in.
+     */
+    @Mock
+    private QuestPackage questPackage;
+
+    /**
+     * The profile to resolve the variables for.
+     */
+    @Mock
+    private Profile profile;
+
+    private Variable<String> create(final String input) throws QuestException {
+        return new Variable<>(variableProcessor, questPackage, input, value -> value);
+    }
+
+    private void mockVariable(final String instruction, final String value) throws QuestException {
+        final VariableAdapter variable = mock(VariableAdapter.class);
+        lenient().when(variable.getValue(any())).thenReturn(value);
+        when(variableProcessor.create(questPackage, instruction)).thenReturn(variable);
+    }
+
+    @Test
+    void constantWithEscapedPercent() throws QuestException {
+        final Variable<String> variable = create("100\\% done");
+        assertEquals("100% done", variable.getValue(profile), "Escaped percent should be unescaped");
+        verifyNoInteractions(variableProcessor);
+    }
+
+    @Test
+    void resolvesVariablesBetweenLiterals() throws QuestException {
+        mockVariable("%name%", "Steve");
+        mockVariable("%point.kills.amount%", "5");
+        final Variable<String> variable = create("Hello %name%, you have %point.kills.amount% kills");
+        assertEquals("Hello Steve, you have 5 kills", variable.getValue(profile), "Variables should be replaced");
+    }
+
+    @Test
+    void resolvesVariablesAtBoundaries() throws QuestException {
+        mockVariable("%a%", "1");
+        mockVariable("%b%", "2");
+        final Variable<String> variable = create("%a%%b%");
+        assertEquals("12", variable.getValue(profile), "Adjacent variables should be replaced");
+    }
+
+    @Test
+    void createsRepeatedVariableOnce() throws QuestException {
+        mockVariable("%name%", "Alex");
+        final Variable<String> variable = create("%name% and %name% again\\%");
+        assertEquals("Alex and Alex again%", variable.getValue(profile), "Repeated variable should be replaced");
+        assertEquals("Alex and Alex again%", variable.getValue(profile), "Resolving twice should give the same result");
+        verify(variableProcessor, times(1)).create(questPackage, "%name%");
+    }
+}
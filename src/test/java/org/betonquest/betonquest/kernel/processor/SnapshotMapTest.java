@@ -0,0 +1,77 @@
+package org.betonquest.betonquest.kernel.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the {@link SnapshotMap}.
+ */
+class SnapshotMapTest {
+    /**
+     * The map to test.
+     */
+    private SnapshotMap<String, String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new SnapshotMap<>();
+        map.clear();
+        map.put("old", "old value");
+        map.publish();
+    }
+
+    private static <T> T onOtherThread(final Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier).join();
+    }
+
+    @Test
+    void testOtherThreadsSeePreviousValuesWhileLoading() {
+        map.clear();
+        map.put("new", "new value");
+
+        assertEquals("new value", map.get("new"), "Loading thread should see the loaded values");
+        assertNull(map.get("old"), "Loading thread should not see the previous values");
+        assertEquals("old value", onOtherThread(() -> map.get("old")), "Other threads should see the previous values");
+        assertNull(onOtherThread(() -> map.get("new")), "Other threads should not see unpublished values");
+    }
+
+    @Test
+    void testPublishSwapsValues() {
+        map.clear();
+        map.put("new", "new value");
+        map.publish();
+
+        assertEquals("new value", onOtherThread(() -> map.get("new")), "Published values should be visible to all threads");
+        assertNull(onOtherThread(() -> map.get("old")), "Previous values should be gone after publishing");
+    }
+
+    @Test
+    void testLazyValuesAreDroppedOnPublish() {
+        assertNull(onOtherThread(() -> map.putIfAbsent("lazy", "lazy value")), "Lazy value should be added");
+        assertEquals("lazy value", map.get("lazy"), "Lazy value should be visible to all threads");
+        assertEquals(2, map.size(), "Size should count published and lazy values");
+
+        map.clear();
+        map.publish();
+
+        assertNull(map.get("lazy"), "Lazy value should be dropped on publish");
+    }
+
+    @Test
+    void testPutIfAbsentKeepsPublishedValue() {
+        assertEquals("old value", onOtherThread(() -> map.putIfAbsent("old", "other value")),
+                "Published value should be returned");
+        assertEquals("old value", map.get("old"), "Published value should not be replaced");
+    }
+
+    @Test
+    void testRemoveFromPublishedValues() {
+        assertEquals("old value", map.remove("old"), "Removing should return the published value");
+        assertTrue(map.isEmpty(), "Map should be empty after removing the only value");
+    }
+}
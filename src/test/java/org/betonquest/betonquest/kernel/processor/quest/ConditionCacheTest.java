@@ -0,0 +1,101 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.id.ConditionID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for the {@link ConditionCache}.
+ */
+class ConditionCacheTest {
+    /**
+     * The time to live used in the tests.
+     */
+    private static final long TTL = 1000;
+
+    /**
+     * The current time of the cache.
+     */
+    private final AtomicLong time = new AtomicLong();
+
+    /**
+     * The profile the conditions are cached for.
+     */
+    private Profile profile;
+
+    /**
+     * The cached condition.
+     */
+    private ConditionID conditionID;
+
+    /**
+     * The cache to test.
+     */
+    private ConditionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        conditionID = mock(ConditionID.class);
+        cache = new ConditionCache(mock(ProfileProvider.class), true, TTL, time::get);
+    }
+
+    @Test
+    void testCachedResultIsReturned() {
+        cache.put(profile, conditionID, true, cache.generation(profile));
+
+        assertEquals(Boolean.TRUE, cache.get(profile, conditionID), "Stored result should be returned");
+        assertEquals(1, cache.getHits(), "Lookup should be counted as hit");
+        assertEquals(0, cache.getMisses(), "Lookup should not be counted as miss");
+    }
+
+    @Test
+    void testResultExpires() {
+        cache.put(profile, conditionID, true, cache.generation(profile));
+        time.addAndGet(TTL + 1);
+
+        assertNull(cache.get(profile, conditionID), "Expired result should not be returned");
+        assertEquals(1, cache.getMisses(), "Lookup should be counted as miss");
+    }
+
+    @Test
+    void testInvalidateDropsResults() {
+        cache.put(profile, conditionID, false, cache.generation(profile));
+        cache.invalidate(profile);
+
+        assertNull(cache.get(profile, conditionID), "Invalidated result should not be returned");
+    }
+
+    @Test
+    void testResultCheckedBeforeInvalidationIsNotStored() {
+        final long generation = cache.generation(profile);
+        cache.invalidate(profile);
+        cache.put(profile, conditionID, true, generation);
+
+        assertNull(cache.get(profile, conditionID), "Result checked before the data changed should not be stored");
+    }
+
+    @Test
+    void testResultCheckedBeforeClearIsNotStored() {
+        final long generation = cache.generation(profile);
+        cache.clear();
+        cache.put(profile, conditionID, true, generation);
+
+        assertNull(cache.get(profile, conditionID), "Result checked before clearing should not be stored");
+    }
+
+    @Test
+    void testDisabledWithoutTimeToLive() {
+        assertFalse(new ConditionCache(mock(ProfileProvider.class), true, 0).isEnabled(),
+                "Cache without time to live should be disabled");
+    }
+}
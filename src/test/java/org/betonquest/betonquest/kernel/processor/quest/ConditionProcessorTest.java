@@ -0,0 +1,161 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.kernel.processor.adapter.ConditionAdapter;
+import org.betonquest.betonquest.kernel.registry.quest.ConditionTypeRegistry;
+import org.betonquest.betonquest.quest.PrimaryServerThreadData;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test the asynchronous checks of the {@link ConditionProcessor}.
+ */
+class ConditionProcessorTest {
+    /**
+     * The maximum time in seconds to wait for a check.
+     */
+    private static final long TIMEOUT = 5;
+
+    /**
+     * The server to check the primary thread with.
+     */
+    private Server server;
+
+    /**
+     * The scheduler to run primary thread checks with.
+     */
+    private BukkitScheduler scheduler;
+
+    /**
+     * The profile the conditions are checked for.
+     */
+    private Profile profile;
+
+    /**
+     * The processor to test.
+     */
+    private TestProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        server = mock(Server.class);
+        scheduler = mock(BukkitScheduler.class);
+        profile = mock(Profile.class);
+        processor = new TestProcessor(new PrimaryServerThreadData(server, scheduler, mock(Plugin.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    private ConditionID condition(final boolean outcome, final boolean primaryThread) throws QuestException {
+        final ConditionID conditionID = mock(ConditionID.class);
+        final ConditionAdapter adapter = mock(ConditionAdapter.class);
+        when(adapter.requiresPrimaryThread(profile)).thenReturn(primaryThread);
+        when(adapter.check(profile)).thenReturn(outcome);
+        processor.add(conditionID, adapter);
+        return conditionID;
+    }
+
+    private Boolean await(final CompletableFuture<Boolean> future) throws Exception {
+        return future.get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testAllConditionsMet() throws Exception {
+        final ConditionID first = condition(true, false);
+        final ConditionID second = condition(true, false);
+
+        assertTrue(await(processor.checksAsync(profile, first, second).toCompletableFuture()), "All conditions should be met");
+    }
+
+    @Test
+    void testUnmetConditionCompletesFalse() throws Exception {
+        final ConditionID met = condition(true, false);
+        final ConditionID unmet = condition(false, false);
+
+        assertFalse(await(processor.checksAsync(profile, met, unmet).toCompletableFuture()), "Unmet condition should fail the check");
+    }
+
+    @Test
+    void testPrimaryThreadConditionsRunInScheduledTask() throws Exception {
+        final ConditionID async = condition(true, false);
+        final ConditionID primary = condition(true, true);
+
+        final CompletableFuture<Boolean> future = processor.checksAsync(profile, async, primary).toCompletableFuture();
+        final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).runTask(any(Plugin.class), task.capture());
+        assertFalse(future.isDone(), "Check should wait for the primary thread");
+
+        task.getValue().run();
+        assertTrue(await(future), "All conditions should be met after the primary thread task ran");
+    }
+
+    @Test
+    void testChecksAfterShutdownRunOnCallingThread() throws Exception {
+        final ConditionID conditionID = condition(true, false);
+        processor.shutdown();
+
+        final CompletableFuture<Boolean> future = processor.checksAsync(profile, conditionID).toCompletableFuture();
+        assertTrue(future.isDone(), "Check after shutdown should run on the calling thread");
+        assertTrue(await(future), "Condition should be met");
+    }
+
+    @Test
+    void testRejectedChecksRunOnCallingThread() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ConditionID blocking = mock(ConditionID.class);
+        final ConditionAdapter blockingAdapter = mock(ConditionAdapter.class);
+        when(blockingAdapter.check(profile)).thenAnswer(invocation -> release.await(TIMEOUT, TimeUnit.SECONDS));
+        processor.add(blocking, blockingAdapter);
+        final ConditionID probe = condition(true, false);
+
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        final List<CompletableFuture<Boolean>> blocked = new ArrayList<>();
+        for (int i = 0; i < threads + 1024; i++) {
+            blocked.add(processor.checksAsync(profile, blocking).toCompletableFuture());
+        }
+        final CompletableFuture<Boolean> rejected = processor.checksAsync(profile, probe).toCompletableFuture();
+        assertTrue(rejected.isDone(), "Check rejected by the full pool should run on the calling thread");
+        assertTrue(await(rejected), "Rejected check should still be checked");
+
+        release.countDown();
+        for (final CompletableFuture<Boolean> future : blocked) {
+            assertTrue(await(future), "Queued checks should complete");
+        }
+    }
+
+    /**
+     * Condition processor that allows adding conditions directly.
+     */
+    private static final class TestProcessor extends ConditionProcessor {
+        private TestProcessor(final PrimaryServerThreadData data) {
+            super(mock(BetonQuestLogger.class), mock(ConditionTypeRegistry.class), data,
+                    new ConditionCache(mock(ProfileProvider.class), false, 0));
+        }
+
+        private void add(final ConditionID conditionID, final ConditionAdapter adapter) {
+            values.put(conditionID, adapter);
+            values.publish();
+        }
+    }
+}
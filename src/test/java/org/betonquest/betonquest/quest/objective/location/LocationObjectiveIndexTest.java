@@ -0,0 +1,88 @@
+package org.betonquest.betonquest.quest.objective.location;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for the {@link LocationObjectiveIndex}.
+ */
+class LocationObjectiveIndexTest {
+    /**
+     * The world the locations are in.
+     */
+    private World world;
+
+    /**
+     * The index to test.
+     */
+    private LocationObjectiveIndex index;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        index = new LocationObjectiveIndex();
+    }
+
+    private Location location(final double x, final double y, final double z) {
+        return new Location(world, x, y, z);
+    }
+
+    @Test
+    void testOnlyObjectivesAroundTheMoveAreCandidates() {
+        final AbstractLocationObjective near = mock(AbstractLocationObjective.class);
+        final AbstractLocationObjective far = mock(AbstractLocationObjective.class);
+        index.add(near, LocationObjectiveIndex.Area.around(location(100, 64, 100), 5));
+        index.add(far, LocationObjectiveIndex.Area.around(location(-500, 64, 900), 5));
+
+        assertIterableEquals(List.of(near), index.getCandidates(location(90, 64, 100), location(97, 64, 100)),
+                "Only the objective whose area contains the new location should be a candidate");
+        assertTrue(index.getCandidates(location(0, 64, 0), location(1, 64, 0)).isEmpty(),
+                "No objective should be a candidate far away from all areas");
+    }
+
+    @Test
+    void testLeavingAnAreaKeepsItCandidate() {
+        final AbstractLocationObjective objective = mock(AbstractLocationObjective.class);
+        index.add(objective, LocationObjectiveIndex.Area.around(location(0, 64, 0), 3));
+
+        assertTrue(index.getCandidates(location(2, 64, 0), location(40, 64, 0)).contains(objective),
+                "The objective should be a candidate when the previous location was inside its area");
+    }
+
+    @Test
+    void testUnboundedObjectivesAreAlwaysCandidates() {
+        final AbstractLocationObjective objective = mock(AbstractLocationObjective.class);
+        index.add(objective, null);
+
+        assertTrue(index.getCandidates(location(5000, 64, 5000), location(5001, 64, 5000)).contains(objective),
+                "Objectives without an area should be tested on every move");
+    }
+
+    @Test
+    void testRemovedObjectiveIsNoCandidate() {
+        final AbstractLocationObjective objective = mock(AbstractLocationObjective.class);
+        index.add(objective, LocationObjectiveIndex.Area.around(location(0, 64, 0), 20));
+        index.remove(objective);
+
+        assertTrue(index.isEmpty(), "Index should be empty after removing the only objective");
+        assertTrue(index.getCandidates(location(0, 64, 0), location(1, 64, 0)).isEmpty(),
+                "Removed objective should not be a candidate");
+    }
+
+    @Test
+    void testSameBlockMove() {
+        assertTrue(LocationObjectiveIndex.isSameBlock(location(1.2, 64, 1.9), location(1.8, 64.5, 1.1)),
+                "Moves within one block should be detected");
+        assertFalse(LocationObjectiveIndex.isSameBlock(location(1.9, 64, 1), location(2.1, 64, 1)),
+                "Moves into another block should be detected");
+    }
+}
@@ -6,9 +6,8 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatcher;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
@@ -17,6 +16,7 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,11 +35,6 @@ class LastExecutionCacheTest {
     @Mock
     private BetonQuestLogger logger;
 
-    /**
-     * The cache to test.
-     */
-    private LastExecutionCache lastExecutionCache;
-
     /**
      * Config Accessor used by the cache to access the file.
      */
@@ -47,7 +42,7 @@ class LastExecutionCacheTest {
     private FileConfigAccessor cacheAccessor;
 
     /**
-     * Config provided by the {@link #cacheAccessor} to write & read from the cache.
+     * Config provided by the {@link #cacheAccessor} to read the cache from.
      */
     @Mock
     private YamlConfiguration cacheContent;
@@ -58,27 +53,57 @@ class LastExecutionCacheTest {
     @Mock
     private ScheduleID scheduleID;
 
+    /**
+     * The file the cache is written to.
+     */
+    private Path cacheFile;
+
     @BeforeEach
-    void setUp() {
-        try (MockedStatic<Files> files = mockStatic(Files.class)) {
-            lenient().when(cacheAccessor.getConfig()).thenReturn(cacheContent);
-            files.when(() -> Files.exists(any(Path.class))).thenReturn(true);
-            lastExecutionCache = new LastExecutionCache(logger, cacheAccessor);
-        }
+    void setUp(@TempDir final Path tempDir) {
+        cacheFile = tempDir.resolve("cache.yml");
+        lenient().when(cacheAccessor.getConfig()).thenReturn(cacheContent);
+        lenient().when(cacheAccessor.getConfigurationFile()).thenReturn(cacheFile.toFile());
+    }
+
+    private LastExecutionCache createCache(final String key, final String value) {
+        when(cacheContent.getKeys(true)).thenReturn(Set.of(key));
+        when(cacheContent.getString(key)).thenReturn(value);
+        return createCache();
+    }
+
+    private LastExecutionCache createCache() {
+        return new LastExecutionCache(logger, cacheAccessor);
+    }
+
+    private YamlConfiguration readCacheFile() {
+        return YamlConfiguration.loadConfiguration(cacheFile.toFile());
     }
 
     @Test
-    void testSaveIOException() throws IOException {
+    void testSaveIOException() {
+        when(cacheAccessor.getConfigurationFile()).thenReturn(cacheFile.resolve("missing").resolve("cache.yml").toFile());
         when(scheduleID.getFullID()).thenReturn("test-package.testCacheIOException");
-        when(cacheAccessor.save()).thenThrow(new IOException("ioexception"));
+        final LastExecutionCache lastExecutionCache = createCache();
         lastExecutionCache.cacheExecutionTime(Instant.parse("1970-01-01T00:00:00Z"), scheduleID);
-        verify(logger, times(1)).error(eq("Could not save schedule cache: ioexception"), any(IOException.class));
+        lastExecutionCache.close();
+        verify(logger, atLeastOnce()).error(startsWith("Could not save schedule cache: "), any(IOException.class));
+    }
+
+    @Test
+    void testSaveRetriedAfterIOException() {
+        when(cacheAccessor.getConfigurationFile()).thenReturn(cacheFile.resolve("missing").resolve("cache.yml").toFile(), cacheFile.toFile());
+        when(scheduleID.getFullID()).thenReturn("test-package.testSaveRetried");
+        final LastExecutionCache lastExecutionCache = createCache();
+        lastExecutionCache.cacheExecutionTime(now, scheduleID);
+        lastExecutionCache.close();
+        verify(logger, times(1)).error(startsWith("Could not save schedule cache: "), any(IOException.class));
+        assertEquals(now.toString(), readCacheFile().getString("test-package.testSaveRetried"), "Failed write should be retried");
     }
 
     @Test
     void testReloadIOException() throws IOException {
         when(cacheAccessor.reload()).thenThrow(new IOException("ioexception"));
-        lastExecutionCache.reload();
+        createCache().reload();
         verify(logger, times(1)).error(eq("Could not reload schedule cache: ioexception"), any(IOException.class));
     }
 
@@ -86,7 +111,7 @@ class LastExecutionCacheTest {
     void testRawExecutionTime() {
         final String expected = "2022-06-17T08:45:49.000000000Z";
         when(scheduleID.getFullID()).thenReturn("test-package.testRawExecutionTime");
-        when(cacheContent.getString("test-package.testRawExecutionTime")).thenReturn(expected);
+        final LastExecutionCache lastExecutionCache = createCache("test-package.testRawExecutionTime", expected);
         assertEquals(Optional.of(expected), lastExecutionCache.getRawLastExecutionTime(scheduleID), "Cache should return cached time");
     }
 
@@ -94,82 +119,99 @@ class LastExecutionCacheTest {
     void testExecutionTime() {
         final String expected = "1997-02-02T02:02:02.020202020Z";
         when(scheduleID.getFullID()).thenReturn("test-package.testExecutionTime");
-        when(cacheContent.getString("test-package.testExecutionTime")).thenReturn(expected);
+        final LastExecutionCache lastExecutionCache = createCache("test-package.testExecutionTime", expected);
         assertEquals(Optional.of(Instant.parse(expected)), lastExecutionCache.getLastExecutionTime(scheduleID), "Cache should return cached time");
     }
 
     @Test
     void testRawNotCached() {
         when(scheduleID.getFullID()).thenReturn("test-package.testRawNotCached");
-        when(cacheContent.getString("test-package.testRawNotCached")).thenReturn(null);
-        assertEquals(Optional.empty(), lastExecutionCache.getRawLastExecutionTime(scheduleID), "Cache should return empty optional");
+        assertEquals(Optional.empty(), createCache().getRawLastExecutionTime(scheduleID), "Cache should return empty optional");
     }
 
     @Test
     void testNotCached() {
         when(scheduleID.getFullID()).thenReturn("test-package.testNotCached");
-        when(cacheContent.getString("test-package.testNotCached")).thenReturn(null);
-        assertEquals(Optional.empty(), lastExecutionCache.getLastExecutionTime(scheduleID), "Cache should return empty optional");
+        assertEquals(Optional.empty(), createCache().getLastExecutionTime(scheduleID), "Cache should return empty optional");
     }
 
     @Test
     void testIsContained() {
-        final String expected = "2000-01-01T00:00:00Z";
         when(scheduleID.getFullID()).thenReturn("test-package.testIsContained");
-        when(cacheContent.getString("test-package.testIsContained")).thenReturn(expected);
+        final LastExecutionCache lastExecutionCache = createCache("test-package.testIsContained", "2000-01-01T00:00:00Z");
         assertTrue(lastExecutionCache.isCached(scheduleID), "isCached() should return true");
     }
 
     @Test
     void testIsNotContained() {
         when(scheduleID.getFullID()).thenReturn("test-package.testIsNotContained");
-        when(cacheContent.getString("test-package.testIsNotContained")).thenReturn(null);
-        assertFalse(lastExecutionCache.isCached(scheduleID), "isCached() should return false");
+        assertFalse(createCache().isCached(scheduleID), "isCached() should return false");
     }
 
     @Test
-    void testCacheRaw() throws IOException {
+    void testCacheRaw() {
         final String expected = "2014-10-16T14:28:00Z";
         when(scheduleID.getFullID()).thenReturn("test-package.testCacheRaw");
+        final LastExecutionCache lastExecutionCache = createCache();
         lastExecutionCache.cacheRawExecutionTime(scheduleID, expected);
-        verify(cacheContent).set("test-package.testCacheRaw", expected);
-        verify(cacheAccessor).save();
+        assertEquals(Optional.of(expected), lastExecutionCache.getRawLastExecutionTime(scheduleID), "Cache should return the new time immediately");
+        lastExecutionCache.close();
+        assertEquals(expected, readCacheFile().getString("test-package.testCacheRaw"), "Cache file should contain the time");
     }
 
     @Test
-    void testCacheInstant() throws IOException {
+    void testCacheInstant() {
         final Instant toCache = Instant.parse("1970-01-01T00:00:00Z");
         when(scheduleID.getFullID()).thenReturn("test-package.testCacheInstant");
+        final LastExecutionCache lastExecutionCache = createCache();
         lastExecutionCache.cacheExecutionTime(toCache, scheduleID);
-        verify(cacheContent).set("test-package.testCacheInstant", toCache.toString());
-        verify(cacheAccessor).save();
+        lastExecutionCache.close();
+        assertEquals(toCache.toString(), readCacheFile().getString("test-package.testCacheInstant"), "Cache file should contain the time");
+    }
+
+    @Test
+    void testCacheKeepsLoadedTimes() {
+        final String loaded = "2000-01-01T00:00:00Z";
+        when(scheduleID.getFullID()).thenReturn("test-package.testCacheNew");
+        final LastExecutionCache lastExecutionCache = createCache("test-package.testCacheLoaded", loaded);
+        lastExecutionCache.cacheExecutionTime(now, scheduleID);
+        lastExecutionCache.close();
+        final YamlConfiguration written = readCacheFile();
+        assertEquals(loaded, written.getString("test-package.testCacheLoaded"), "Cache file should keep the loaded time");
+        assertEquals(now.toString(), written.getString("test-package.testCacheNew"), "Cache file should contain the new time");
+    }
+
+    @Test
+    void testCacheWrittenAfterClose() throws IOException {
+        when(scheduleID.getFullID()).thenReturn("test-package.testCacheWrittenAfterClose");
+        final LastExecutionCache lastExecutionCache = createCache();
+        lastExecutionCache.close();
+        lastExecutionCache.cacheExecutionTime(now, scheduleID);
+        assertTrue(Files.exists(cacheFile), "Cache file should be written immediately after closing");
+        assertEquals(now.toString(), readCacheFile().getString("test-package.testCacheWrittenAfterClose"), "Cache file should contain the time");
     }
 
     @Test
     void reload() throws IOException {
-        lastExecutionCache.reload();
+        createCache().reload();
         verify(cacheAccessor).reload();
     }
 
     @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
     @Test
-    void testCacheStartup() throws IOException {
-        final Instant now = this.now;
+    void testCacheStartup() {
         final ScheduleID newSchedule = mock(ScheduleID.class);
         final ScheduleID cachedSchedule = mock(ScheduleID.class);
         final String expected = "2000-01-01T00:00:00Z";
         when(newSchedule.getFullID()).thenReturn("test-package.testCacheStartup-newSchedule");
         when(cachedSchedule.getFullID()).thenReturn("test-package.testCacheStartup-cachedSchedule");
-        when(cacheContent.getString("test-package.testCacheStartup-newSchedule")).thenReturn(null);
-        when(cacheContent.getString("test-package.testCacheStartup-cachedSchedule")).thenReturn(expected);
+        final LastExecutionCache lastExecutionCache = createCache("test-package.testCacheStartup-cachedSchedule", expected);
         lastExecutionCache.cacheStartupTime(now, List.of(newSchedule, cachedSchedule));
-        final Instant end = this.now;
-        final ArgumentMatcher<String> isCurrentTime = value -> {
-            final Instant cachedTime = Instant.parse(value);
-            return !cachedTime.isBefore(now) && !cachedTime.isAfter(end);
-        };
-        verify(cacheContent).set(eq("test-package.testCacheStartup-newSchedule"), argThat(isCurrentTime));
-        verify(cacheContent, never()).set(eq("test-package.testCacheStartup-cachedSchedule"), anyString());
-        verify(cacheAccessor).save();
+        assertEquals(Optional.of(now), lastExecutionCache.getLastExecutionTime(newSchedule), "New schedule should be cached with the startup time");
+        assertEquals(Optional.of(Instant.parse(expected)), lastExecutionCache.getLastExecutionTime(cachedSchedule), "Cached schedule should keep its time");
+        lastExecutionCache.close();
+        final YamlConfiguration written = readCacheFile();
+        assertEquals(now.toString(), written.getString("test-package.testCacheStartup-newSchedule"), "Cache file should contain the startup time");
+        assertEquals(expected, written.getString("test-package.testCacheStartup-cachedSchedule"), "Cache file should keep the cached time");
     }
 }
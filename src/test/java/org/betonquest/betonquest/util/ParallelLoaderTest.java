@@ -0,0 +1,32 @@
+package org.betonquest.betonquest.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the {@link ParallelLoader}.
+ */
+class ParallelLoaderTest {
+    @Test
+    void testResultsKeepTheOrderOfTheValues() {
+        final List<Integer> values = IntStream.range(0, 100).boxed().toList();
+        final List<Integer> results = ParallelLoader.map("Test Loader", values, value -> value * 2);
+        assertEquals(values.stream().map(value -> value * 2).toList(), results, "Results should be in the order of the values");
+    }
+
+    @Test
+    void testExceptionIsRethrown() {
+        final List<Integer> values = IntStream.range(0, 10).boxed().toList();
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ParallelLoader.map("Test Loader", values, value -> {
+            if (value == 5) {
+                throw new IllegalArgumentException("five");
+            }
+            return value;
+        }), "Exception of the mapper should be rethrown");
+        assertEquals("five", exception.getMessage(), "The original exception should be rethrown");
+    }
+}
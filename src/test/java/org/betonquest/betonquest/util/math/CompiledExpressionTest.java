@@ -0,0 +1,119 @@
+package org.betonquest.betonquest.util.math;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.api.quest.variable.PlayerVariable;
+import org.betonquest.betonquest.instruction.Instruction;
+import org.betonquest.betonquest.kernel.processor.adapter.VariableAdapter;
+import org.betonquest.betonquest.kernel.processor.quest.VariableProcessor;
+import org.betonquest.betonquest.logger.util.BetonQuestLoggerService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test the {@link CompiledExpression}.
+ */
+@SuppressWarnings("deprecation")
+@ExtendWith(BetonQuestLoggerService.class)
+class CompiledExpressionTest {
+    /**
+     * Precision up to which to check equality of floating point numbers.
+     */
+    private static final double REQUIRED_DOUBLE_PRECISION = 1E-7;
+
+    /**
+     * The profile to use for variable resolution.
+     */
+    private static final Profile TEST_PLAYER_PROFILE = mock(Profile.class);
+
+    /**
+     * The package we assume to be inside for variable resolution.
+     */
+    private static final QuestPackage TEST_PACK = mock(QuestPackage.class);
+
+    /**
+     * The variable processor to use for variable resolution.
+     */
+    private final VariableProcessor variableProcessor = mock(VariableProcessor.class);
+
+    @BeforeAll
+    static void setUp() {
+        when(TEST_PACK.getQuestPath()).thenReturn("testPack");
+    }
+
+    private CompiledExpression compile(final String expression) throws QuestException {
+        return CompiledExpression.compile(new Tokenizer(variableProcessor, TEST_PACK).tokenize(expression));
+    }
+
+    private PlayerVariable withVariable(final String key, final String value) throws QuestException {
+        final PlayerVariable variable = mock(PlayerVariable.class);
+        when(variable.getValue(TEST_PLAYER_PROFILE)).thenReturn(value);
+        final VariableAdapter adapter = new VariableAdapter(mock(Instruction.class), variable, null);
+        when(variableProcessor.create(TEST_PACK, "%" + key + "%")).thenReturn(adapter);
+        return variable;
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "1+2*3;7",
+            "(1+2)*3;9",
+            "2^3^2;64",
+            "-|3-5|;-2",
+            "[2+2]*-(1+1);-8",
+            "10%4-1;1",
+            "1.005~2;1.01"
+    })
+    void testConstantExpressionsAreFolded(final String expression, final double expected) throws QuestException {
+        final CompiledExpression compiled = compile(expression);
+        assertTrue(compiled.isConstant(), "expression without variables should be constant");
+        assertEquals(expected, compiled.evaluate(TEST_PLAYER_PROFILE), REQUIRED_DOUBLE_PRECISION, "constant expression should be calculated");
+    }
+
+    @Test
+    void testMatchesTokenizedResult() throws QuestException {
+        withVariable("a", "3");
+        withVariable("b", "-4.5");
+        final String expression = "{a}*({b}+2)^2-|{b}|/{a}~1";
+        final double expected = new Tokenizer(variableProcessor, TEST_PACK).tokenize(expression).resolve(TEST_PLAYER_PROFILE);
+        final CompiledExpression compiled = compile(expression);
+        assertFalse(compiled.isConstant(), "expression with variables should not be constant");
+        assertEquals(expected, compiled.evaluate(TEST_PLAYER_PROFILE), REQUIRED_DOUBLE_PRECISION, "compiled expression should calculate the same result as the tokens");
+    }
+
+    @Test
+    void testSameVariableIsResolvedOnce() throws QuestException {
+        final PlayerVariable variable = withVariable("a", "4");
+        final CompiledExpression compiled = compile("{a}*{a}+a-1");
+        assertEquals(19, compiled.evaluate(TEST_PLAYER_PROFILE), REQUIRED_DOUBLE_PRECISION, "expression should use the variable value everywhere");
+        verify(variable, times(1)).getValue(TEST_PLAYER_PROFILE);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "({a}*{b})+({a}*{b})",
+            "-|{a}-{b}|*-|{a}-{b}|",
+            "(({a}+1)*2)+(({a}+1)*2)/({a}+1)",
+            "{a}^{b}-({a}^{b}+{a}^{b})*({a}^{b})"
+    })
+    void testRepeatedPartsMatchTokenizedResult(final String expression) throws QuestException {
+        withVariable("a", "3");
+        withVariable("b", "-2");
+        final double expected = new Tokenizer(variableProcessor, TEST_PACK).tokenize(expression).resolve(TEST_PLAYER_PROFILE);
+        assertEquals(expected, compile(expression).evaluate(TEST_PLAYER_PROFILE), REQUIRED_DOUBLE_PRECISION, "reused parts should calculate the same result as the tokens");
+    }
+
+    @Test
+    void testVariableErrorIsThrownOnEvaluation() throws QuestException {
+        final PlayerVariable variable = withVariable("a", "4");
+        when(variable.getValue(TEST_PLAYER_PROFILE)).thenThrow(new QuestException("unresolvable"));
+        final CompiledExpression compiled = compile("{a}+1");
+        assertThrows(QuestException.class, () -> compiled.evaluate(TEST_PLAYER_PROFILE), "unresolvable variable should throw on evaluation");
+    }
+}